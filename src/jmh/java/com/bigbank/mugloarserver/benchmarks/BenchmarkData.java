@@ -0,0 +1,137 @@
+package com.bigbank.mugloarserver.benchmarks;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+import com.bigbank.mugloarserver.models.ShopItem;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded synthetic message boards and shop lists shaped like the ones the Mugloar API returns: a mix of probability
+ * labels, rewards and expiry times, about a third of the messages Base64-encoded, and the real shop catalog followed
+ * by extra items for larger shops.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+final class BenchmarkData {
+    static final long SEED = 42L;
+
+    private static final String[][] SHOP_CATALOG = {
+            {"hpot", "Healing potion", "50"},
+            {"cs", "Claw Sharpening", "100"},
+            {"gas", "Gasoline", "100"},
+            {"wax", "Copper Plating", "100"},
+            {"tricks", "Book of Tricks", "100"},
+            {"wingpot", "Potion of Stronger Wings", "100"},
+            {"ch", "Claw Honing", "300"},
+            {"rf", "Rocket Fuel", "300"},
+            {"iron", "Iron Plating", "300"},
+            {"mtrix", "Book of Megatricks", "300"},
+            {"wingpotmax", "Potion of Awesome Wings", "300"}
+    };
+
+    private BenchmarkData() {
+    }
+
+    static Game game(String gameId, double gold, int lives) {
+        Game game = new Game();
+        game.setGameId(gameId);
+        game.setGold(gold);
+        game.setLives(lives);
+        game.setLevel(1);
+        game.setWingStrength(1);
+        game.setScaleThickness(1);
+        game.setFireBreath(1);
+        game.setCunning(1);
+        game.setClawSharpness(1);
+        return game;
+    }
+
+    static List<String[]> rawMessages(int count) {
+        Random random = new Random(SEED);
+        ProbabilityLabel[] labels = ProbabilityLabel.values();
+        List<String[]> rawMessages = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            boolean encrypted = random.nextInt(3) == 0;
+            String adId = "ad" + i;
+            String text = "Help defending village " + i + " from the raiders";
+
+            rawMessages.add(new String[]{
+                    encrypted ? encode(adId) : adId,
+                    encrypted ? encode(text) : text,
+                    String.valueOf(1 + random.nextInt(300)),
+                    String.valueOf(1 + random.nextInt(10)),
+                    encrypted ? "1" : null,
+                    labels[random.nextInt(labels.length - 1)].getLabel()
+            });
+        }
+
+        return rawMessages;
+    }
+
+    static List<Message> messages(int count) {
+        List<Message> messages = new ArrayList<>(count);
+
+        for (String[] raw : rawMessages(count)) {
+            messages.add(toMessage(raw));
+        }
+
+        return messages;
+    }
+
+    static Message toMessage(String[] raw) {
+        return new Message(raw[0], raw[1], raw[2], Integer.parseInt(raw[3]),
+                raw[4] == null ? null : Integer.valueOf(raw[4]), raw[5]);
+    }
+
+    static String messagesJson(int count) {
+        StringBuilder json = new StringBuilder("[");
+
+        for (String[] raw : rawMessages(count)) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+
+            json.append("{\"adId\":\"").append(raw[0])
+                    .append("\",\"message\":\"").append(raw[1])
+                    .append("\",\"reward\":").append(raw[2])
+                    .append(",\"expiresIn\":").append(raw[3]);
+
+            if (raw[4] != null) {
+                json.append(",\"encrypted\":").append(raw[4]);
+            }
+
+            json.append(",\"probability\":\"").append(raw[5]).append("\"}");
+        }
+
+        return json.append(']').toString();
+    }
+
+    static List<ShopItem> shopItems(int count) {
+        Random random = new Random(SEED);
+        List<ShopItem> shopItems = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            if (i < SHOP_CATALOG.length) {
+                String[] item = SHOP_CATALOG[i];
+                shopItems.add(new ShopItem(item[0], item[1], Double.parseDouble(item[2])));
+            } else {
+                shopItems.add(new ShopItem("extra" + i, "Extra item " + i, 25 + random.nextInt(12) * 25));
+            }
+        }
+
+        return shopItems;
+    }
+
+    // PRIVATE METHODS //
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.bigbank.mugloarserver.benchmarks;
+
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.services.implementations.MugloarRateLimiterImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarResilienceServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.ReactiveMugloarServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building Message instances, binding message boards from JSON, and the full MugloarServiceImpl
+ * getMessages call against a canned in-memory response.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageDecodingBenchmark {
+    @Param({"10", "50", "250"})
+    private int messageCount;
+
+    private List<String[]> rawMessages;
+    private byte[] messagesJson;
+    private ObjectReader messagesReader;
+    private MugloarServiceImpl mugloarService;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().addModule(new BlackbirdModule()).build();
+        String json = BenchmarkData.messagesJson(messageCount);
+
+        rawMessages = BenchmarkData.rawMessages(messageCount);
+        messagesJson = json.getBytes(StandardCharsets.UTF_8);
+        messagesReader = objectMapper.readerFor(new TypeReference<List<Message>>() {
+        });
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(json)
+                        .build()))
+                .build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        mugloarService = new MugloarServiceImpl(new ReactiveMugloarServiceImpl(webClient, objectMapper,
+                new MugloarResilienceServiceImpl(meterRegistry, new String[0], 1, Duration.ZERO, Duration.ZERO, 0,
+                        Integer.MAX_VALUE, Duration.ZERO),
+                new MugloarRateLimiterImpl(meterRegistry, 0, 1, new String[0]),
+                meterRegistry));
+    }
+
+    @Benchmark
+    public void constructMessages(Blackhole blackhole) {
+        for (String[] raw : rawMessages) {
+            blackhole.consume(BenchmarkData.toMessage(raw));
+        }
+    }
+
+    @Benchmark
+    public List<Message> bindMessages() throws IOException {
+        return messagesReader.readValue(messagesJson);
+    }
+
+    @Benchmark
+    public List<Message> getMessages() {
+        return mugloarService.getMessages("bench");
+    }
+}
@@ -0,0 +1,89 @@
+package com.bigbank.mugloarserver.benchmarks;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.services.implementations.StrategyServiceImpl;
+import com.bigbank.mugloarserver.strategies.DifficultyMessageScorer;
+import com.bigbank.mugloarserver.strategies.ShopOptimizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decideItemsToBuy, backed by ShopOptimizer, against the greedy selection it replaced, over shops and
+ * budgets of varying sizes.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShopBenchmark {
+    private static final Set<String> REQUIRED_ITEM_IDS = Set.of("hpot", "cs", "gas", "wax", "tricks", "wingpot",
+            "ch", "rf", "iron", "mtrix", "wingpotmax");
+
+    @Param({"11", "32", "64"})
+    private int itemCount;
+
+    @Param({"150", "600", "2000"})
+    private double gold;
+
+    private StrategyServiceImpl strategyService;
+    private List<ShopItem> shopItems;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        strategyService = new StrategyServiceImpl(Map.of("difficulty", new DifficultyMessageScorer()),
+                new ShopOptimizer(), "difficulty");
+        shopItems = BenchmarkData.shopItems(itemCount);
+        game = BenchmarkData.game("bench", gold, 2);
+    }
+
+    @Benchmark
+    public List<ShopItem> knapsack() {
+        return strategyService.decideItemsToBuy(game, shopItems);
+    }
+
+    @Benchmark
+    public List<ShopItem> greedy() {
+        return greedySelection(game, shopItems);
+    }
+
+    // PRIVATE METHODS //
+
+    /**
+     * The selection decideItemsToBuy made before ShopOptimizer: required items by descending cost, then the remaining
+     * items in catalog order, each bought while gold lasts.
+     */
+    private static List<ShopItem> greedySelection(Game game, List<ShopItem> shopItems) {
+        List<ShopItem> requiredItems = shopItems.stream()
+                .filter(item -> REQUIRED_ITEM_IDS.contains(item.getId()))
+                .sorted(Comparator.comparingDouble(ShopItem::getCost).reversed())
+                .toList();
+
+        List<ShopItem> selectedItems = new ArrayList<>();
+        double remainingGold = game.getGold();
+
+        for (ShopItem item : requiredItems) {
+            if (item.getCost() <= remainingGold) {
+                selectedItems.add(item);
+                remainingGold -= item.getCost();
+            }
+        }
+
+        for (ShopItem item : shopItems) {
+            if (!REQUIRED_ITEM_IDS.contains(item.getId()) && item.getCost() <= remainingGold) {
+                selectedItems.add(item);
+                remainingGold -= item.getCost();
+            }
+        }
+
+        return selectedItems;
+    }
+}
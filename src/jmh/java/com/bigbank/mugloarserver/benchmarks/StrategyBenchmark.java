@@ -0,0 +1,69 @@
+package com.bigbank.mugloarserver.benchmarks;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.MessageBoard;
+import com.bigbank.mugloarserver.services.implementations.StrategyServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.SuccessRateServiceImpl;
+import com.bigbank.mugloarserver.strategies.DifficultyMessageScorer;
+import com.bigbank.mugloarserver.strategies.ExpectedValueMessageScorer;
+import com.bigbank.mugloarserver.strategies.ShopOptimizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for choosing a message from boards of varying sizes, for each MessageScorer.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark {
+    private static final String GAME_ID = "bench";
+
+    @Param({"10", "50", "250"})
+    private int messageCount;
+
+    @Param({"expectedValue", "difficulty"})
+    private String messageScorer;
+
+    private StrategyServiceImpl strategyService;
+    private List<Message> messages;
+    private Game game;
+
+    @Setup
+    public void setUp() {
+        // Success rates stay at their priors, so the repository is never queried
+        SuccessRateServiceImpl successRateService = new SuccessRateServiceImpl(null, 20);
+
+        strategyService = new StrategyServiceImpl(Map.of(
+                "expectedValue", new ExpectedValueMessageScorer(successRateService),
+                "difficulty", new DifficultyMessageScorer()), new ShopOptimizer(), messageScorer);
+        strategyService.createContext(GAME_ID);
+        messages = BenchmarkData.messages(messageCount);
+        game = BenchmarkData.game(GAME_ID, 500, 3);
+    }
+
+    @Benchmark
+    public Message chooseMessage() {
+        return strategyService.chooseMessage(messages, game);
+    }
+
+    @Benchmark
+    public void drainMessageBoard(Blackhole blackhole) {
+        MessageBoard messageBoard = strategyService.createMessageBoard(messages, game);
+
+        while (!messageBoard.isEmpty()) {
+            blackhole.consume(messageBoard.poll());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bigbank.mugloarserver.configurations;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for Jackson. Module beans are registered on the Spring Boot managed ObjectMapper, which is shared by
+ * the Mugloar API client and the web layer.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Configuration
+public class JacksonConfiguration {
+    /**
+     * Replaces reflective setter, getter and constructor calls on the models with accessors generated through
+     * LambdaMetafactory.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
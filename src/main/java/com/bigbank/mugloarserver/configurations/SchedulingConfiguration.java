@@ -0,0 +1,15 @@
+package com.bigbank.mugloarserver.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration for scheduled housekeeping tasks, such as evicting the state of abandoned games.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,34 @@
+package com.bigbank.mugloarserver.configurations;
+
+import com.bigbank.mugloarserver.simulator.MugloarSimulator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration that embeds the Mugloar simulator when mugloar.simulator.enabled is set. The game loop still talks to
+ * whatever mugloar.api.base-url points at; the simulator profile points it at the embedded simulator.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "mugloar.simulator.enabled", havingValue = "true")
+public class SimulatorConfiguration {
+    @Bean(destroyMethod = "stop")
+    public MugloarSimulator mugloarSimulator(@Value("${mugloar.simulator.host:localhost}") String host,
+                                             @Value("${mugloar.simulator.port:8089}") int port,
+                                             @Value("${mugloar.simulator.seed:42}") long seed,
+                                             @Value("${mugloar.simulator.latency-median:25ms}") Duration latencyMedian,
+                                             @Value("${mugloar.simulator.latency-sigma:0.5}") double latencySigma,
+                                             @Value("${mugloar.simulator.board-size:10}") int boardSize,
+                                             @Value("${mugloar.simulator.max-turns:1000}") int maxTurns) {
+        MugloarSimulator mugloarSimulator = new MugloarSimulator(seed, latencyMedian, latencySigma, boardSize,
+                maxTurns);
+        mugloarSimulator.start(host, port);
+        return mugloarSimulator;
+    }
+}
@@ -0,0 +1,87 @@
+package com.bigbank.mugloarserver.configurations;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for the WebClient used to call the Mugloar API. Connections come from a bounded Reactor Netty pool
+ * that publishes its metrics through Micrometer, and every request is guarded by connect, response, read and write
+ * timeouts so a slow upstream call fails instead of hanging a game loop. The read and write timeouts are only on the
+ * connection while a request is in flight, so idle keep-alive connections in the pool are left alone.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Configuration
+public class WebClientConfiguration {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebClientConfiguration.class);
+    private static final String POOL_NAME = "mugloar-api";
+    private static final String READ_TIMEOUT_HANDLER = "mugloarReadTimeout";
+    private static final String WRITE_TIMEOUT_HANDLER = "mugloarWriteTimeout";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider mugloarConnectionProvider(
+            @Value("${mugloar.http.max-connections:500}") int maxConnections,
+            @Value("${mugloar.http.pending-acquire-max-count:2000}") int pendingAcquireMaxCount,
+            @Value("${mugloar.http.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+            @Value("${mugloar.http.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${mugloar.http.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${mugloar.http.eviction-interval:10s}") Duration evictionInterval) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient mugloarWebClient(WebClient.Builder webClientBuilder, ConnectionProvider mugloarConnectionProvider,
+                                      @Value("${mugloar.api.base-url}") String baseUrl,
+                                      @Value("${mugloar.http.protocols:H2,HTTP11}") HttpProtocol[] protocols,
+                                      @Value("${mugloar.http.connect-timeout:3s}") Duration connectTimeout,
+                                      @Value("${mugloar.http.response-timeout:10s}") Duration responseTimeout,
+                                      @Value("${mugloar.http.read-timeout:10s}") Duration readTimeout,
+                                      @Value("${mugloar.http.write-timeout:10s}") Duration writeTimeout) {
+        HttpClient httpClient = HttpClient.create(mugloarConnectionProvider)
+                .protocol(protocols)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(READ_TIMEOUT_HANDLER,
+                                new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(WRITE_TIMEOUT_HANDLER,
+                                new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)))
+                // Removed once the body is read; a failed or cancelled exchange closes the connection instead
+                .doAfterResponseSuccess((response, connection) -> connection
+                        .removeHandler(READ_TIMEOUT_HANDLER)
+                        .removeHandler(WRITE_TIMEOUT_HANDLER));
+
+        // Load the event loops, DNS resolver and TLS context now rather than on the first burst of game starts
+        httpClient.warmup().block();
+        LOGGER.info("Mugloar WebClient ready for {} with protocols {}", baseUrl, protocols);
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
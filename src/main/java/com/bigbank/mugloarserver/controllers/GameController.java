@@ -1,20 +1,28 @@
 package com.bigbank.mugloarserver.controllers;
 
+import com.bigbank.mugloarserver.exceptions.GameRejectedException;
 import com.bigbank.mugloarserver.facades.GameFacade;
 import com.bigbank.mugloarserver.models.Game;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
 import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameRunnerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Window;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -32,10 +40,28 @@ public class GameController {
     private GameFacade gameFacade;
     @Autowired
     private GameResultService gameResultService;
+    @Autowired
+    private GameRunnerService gameRunnerService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Value("${mugloar.history.show-total-count:true}")
+    private boolean showTotalCount;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("mugloar.games.active", activeGames, ConcurrentHashMap::size)
+                .description("Games started through the API that have not finished yet, running or queued")
+                .register(meterRegistry);
+    }
 
     @ResponseBody
     @PostMapping("/start")
     public ResponseEntity<?> startGame() {
+        // Checked before the game is started upstream, where a game that is never played would be left behind
+        if (gameRunnerService.isAtCapacity()) {
+            return ResponseEntity.status(503).body("{\"error\": \"Too many games are running.\"}");
+        }
+
         Game game = gameFacade.initializeGame();
 
         if (game == null) {
@@ -46,19 +72,46 @@ public class GameController {
 
         activeGames.put(gameId, game);
 
-        CompletableFuture.runAsync(() -> {
-            gameFacade.playGame(game);
+        try {
+            gameRunnerService.submit(game, () -> activeGames.remove(gameId));
+        } catch (GameRejectedException e) {
             activeGames.remove(gameId);
-        });
+            return ResponseEntity.status(503).body("{\"error\": \"Too many games are running.\"}");
+        }
 
         return ResponseEntity.ok().body("{\"gameId\": \"" + gameId + "\"}");
     }
 
+    /**
+     * Cancels a running or queued game. Its in-flight call is aborted and the partial result is stored, so it shows up
+     * in the history like any finished game.
+     */
+    @ResponseBody
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> cancelGame(@PathVariable String id) {
+        if (!gameRunnerService.cancel(id)) {
+            return ResponseEntity.status(404).body("{\"error\": \"Game is not running.\"}");
+        }
+
+        return ResponseEntity.accepted().body("{\"gameId\": \"" + id + "\", \"status\": \"cancelling\"}");
+    }
+
+    /**
+     * Shows the result of a finished game. A result never changes once saved, so it is tagged by game and finish time
+     * and a client that already has it gets 304 Not Modified.
+     */
     @GetMapping("/{id}")
-    public String displayResult(Model model, @PathVariable String id) {
+    public String displayResult(Model model, @PathVariable String id, WebRequest webRequest) {
         GameResult gameResult = gameResultService.findByGameId(id);
 
         if (gameResult != null) {
+            long lastModified = gameResult.getTimestamp() == null ? -1 :
+                    gameResult.getTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+            if (webRequest.checkNotModified(id + "-" + lastModified, lastModified)) {
+                return null;
+            }
+
             model.addAttribute("gameResult", gameResult);
             model.addAttribute("processedMessages", gameResult.getProcessedMessages());
             model.addAttribute("purchasedItems", gameResult.getPurchasedItems());
@@ -69,15 +122,32 @@ public class GameController {
         }
     }
 
+    /**
+     * Shows a page of the game history, newest first. Older pages are reached through the timestamp and id of the last
+     * game on the page before, not an offset, so they cost the same however deep they are.
+     */
     @GetMapping("/history")
     public String getGameHistory(
-            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "before", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(value = "beforeId", required = false) UUID beforeId,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "error", required = false) String error,
             Model model) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("timestamp").descending());
-        Page<GameResult> gameResultPage = gameResultService.getAllGameResults(pageable);
-        model.addAttribute("gameResultPage", gameResultPage);
+        Window<GameResultSummary> gameResultWindow = gameResultService.getGameResultSummaries(before, beforeId, size);
+        model.addAttribute("gameResultWindow", gameResultWindow);
+        model.addAttribute("size", size);
+        model.addAttribute("firstPage", before == null || beforeId == null);
+
+        if (gameResultWindow.hasNext()) {
+            GameResultSummary last = gameResultWindow.getContent().getLast();
+            model.addAttribute("nextBefore", last.getTimestamp());
+            model.addAttribute("nextBeforeId", last.getId());
+        }
+
+        if (showTotalCount) {
+            model.addAttribute("totalCount", gameResultService.getGameResultCount());
+        }
 
         if ("notfound".equals(error)) {
             model.addAttribute("errorMessage", "Failed to retrieve game history.");
@@ -86,4 +156,4 @@ public class GameController {
 
         return "history";
     }
-}
\ No newline at end of file
+}
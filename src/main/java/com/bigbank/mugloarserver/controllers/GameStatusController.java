@@ -0,0 +1,28 @@
+package com.bigbank.mugloarserver.controllers;
+
+import com.bigbank.mugloarserver.models.GameStateMessage;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * Controller answering STOMP subscriptions to /app/game-status/{gameId} with one frame of the game's recent state
+ * updates, so a client that subscribed late or reconnected catches up before following /topic/game-status/{gameId}.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Controller
+public class GameStatusController {
+    @Autowired
+    private GameStatePublisher gameStatePublisher;
+
+    @SubscribeMapping("/game-status/{gameId}")
+    public List<GameStateMessage> getGameStatusSnapshot(@DestinationVariable String gameId) {
+        return gameStatePublisher.getSnapshot(gameId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.bigbank.mugloarserver.exceptions;
+
+/**
+ * Exception thrown inside a game loop once the game has been cancelled, to leave the loop between phases.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameCancelledException extends MugloarException {
+    public GameCancelledException(String code) {
+        super(code);
+    }
+}
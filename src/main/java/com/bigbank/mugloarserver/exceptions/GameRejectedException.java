@@ -0,0 +1,13 @@
+package com.bigbank.mugloarserver.exceptions;
+
+/**
+ * Exception thrown when a new game cannot be admitted because the game runner is at capacity.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameRejectedException extends MugloarException {
+    public GameRejectedException(String code) {
+        super(code);
+    }
+}
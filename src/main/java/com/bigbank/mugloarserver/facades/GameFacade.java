@@ -1,25 +1,35 @@
 package com.bigbank.mugloarserver.facades;
 
-import com.bigbank.mugloarserver.exceptions.DuplicateGameResultException;
+import com.bigbank.mugloarserver.exceptions.GameCancelledException;
 import com.bigbank.mugloarserver.exceptions.GameOverException;
 import com.bigbank.mugloarserver.exceptions.MugloarException;
 import com.bigbank.mugloarserver.models.*;
-import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameMetricsService;
+import com.bigbank.mugloarserver.services.GameMetricsService.GamePhase;
+import com.bigbank.mugloarserver.services.GameResultWriter;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
 import com.bigbank.mugloarserver.services.InventoryService;
 import com.bigbank.mugloarserver.services.MugloarService;
+import com.bigbank.mugloarserver.services.ShopCatalogService;
 import com.bigbank.mugloarserver.services.StrategyService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A facade that orchestrates the game flow: start a game, investigate, solve tasks and store the result.
+ * <p>
+ * A game loop is bounded by a budget of turns, wall time and consecutive failed loops, and can be cancelled from
+ * outside. Either way the game is terminated and its partial result stored like that of any other game.
  *
  * @author vinodjohn
  * @created 07.12.2024
@@ -35,17 +45,36 @@ public class GameFacade {
     private StrategyService strategyService;
 
     @Autowired
-    private GameResultService gameResultService;
+    private GameResultWriter gameResultWriter;
 
     @Autowired
     private InventoryService inventoryService;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private ShopCatalogService shopCatalogService;
+
+    @Autowired
+    private GameStatePublisher gameStatePublisher;
+
+    @Autowired
+    private GameMetricsService gameMetricsService;
+
+    @Value("${mugloar.game.max-turns:2000}")
+    private int maxTurns;
+
+    @Value("${mugloar.game.max-duration:15m}")
+    private Duration maxDuration;
+
+    @Value("${mugloar.game.max-consecutive-errors:20}")
+    private int maxConsecutiveErrors;
+
+    private final Set<String> cancelledGames = ConcurrentHashMap.newKeySet();
+    private final Set<String> finalizingGames = ConcurrentHashMap.newKeySet();
 
     public Game initializeGame() {
         try {
             Game game = mugloarService.startGame();
+            strategyService.createContext(game.getGameId());
 
             LOGGER.info("Game started: GameID={} | Lives={} | Gold={} | Level={} | Score={} | " +
                             "Turn={}| Dragon Level={}",
@@ -75,13 +104,32 @@ public class GameFacade {
         }
 
         List<ProcessedMessage> processedMessages = new ArrayList<>();
+        gameMetricsService.startGame(game);
+        long startedNanos = System.nanoTime();
+        int consecutiveErrors = 0;
 
         while (true) {
+            String exceededBudget = findExceededBudget(game, startedNanos, consecutiveErrors);
+
+            if (exceededBudget != null) {
+                LOGGER.warn("GameID={} exceeded its budget: {}. Terminating the game.", game.getGameId(),
+                        exceededBudget);
+                sendGameStateUpdate(game.getGameId(), "game_budget_exceeded", exceededBudget);
+                terminateGame(game, processedMessages, exceededBudget);
+
+                break;
+            }
+
             try {
                 LOGGER.debug("Starting a new game loop for GameID={}", game.getGameId());
+                int turnBefore = game.getTurn();
 
                 // Investigation Phase
-                if (!performInvestigation(game)) {
+                checkCancelled(game);
+                boolean investigated = gameMetricsService.timePhase(game.getGameId(), GamePhase.INVESTIGATION,
+                        () -> performInvestigation(game));
+
+                if (!investigated) {
                     LOGGER.warn("Investigation failed for GameID={}. Continuing the game.", game.getGameId());
                     sendGameStateUpdate(game.getGameId(), "investigation_failed", "Investigation failed.");
                 } else {
@@ -89,7 +137,9 @@ public class GameFacade {
                 }
 
                 // Message Solving Phase
-                boolean solvedAnyMessage = performMessageSolving(game, processedMessages);
+                checkCancelled(game);
+                boolean solvedAnyMessage = gameMetricsService.timePhase(game.getGameId(), GamePhase.MESSAGE_SOLVING,
+                        () -> performMessageSolving(game, processedMessages));
 
                 if (!solvedAnyMessage) {
                     LOGGER.info("No messages solved in this loop for GameID={}. Continuing the game.",
@@ -100,10 +150,23 @@ public class GameFacade {
                 }
 
                 // Shop Phase: Attempt to purchase items before the next message solving
-                performShopPhase(game);
+                checkCancelled(game);
+                gameMetricsService.timePhase(game.getGameId(), GamePhase.SHOP, () -> performShopPhase(game));
                 sendGameStateUpdate(game.getGameId(), "shop_phase_completed", "Completed Shop Phase.");
 
+                // A loop that got nowhere, typically because every call failed, counts against the error budget
+                boolean progressed = investigated || solvedAnyMessage || game.getTurn() > turnBefore;
+                consecutiveErrors = progressed ? 0 : consecutiveErrors + 1;
+
+                gameMetricsService.recordLoop(game);
+                inventoryService.touch(game.getGameId());
                 sendGameStateUpdate(game.getGameId(), "game_loop_completed", "Completed a game loop.");
+            } catch (GameCancelledException gce) {
+                LOGGER.warn("GameID={} was cancelled. Terminating the game.", game.getGameId());
+                sendGameStateUpdate(game.getGameId(), "game_cancelled", "Game cancelled.");
+                terminateGame(game, processedMessages, "Game cancelled.");
+
+                break;
             } catch (GameOverException goe) {
                 LOGGER.warn("Game Over detected: {}. Terminating the game.", goe.getMessage());
 
@@ -112,17 +175,90 @@ public class GameFacade {
 
                 break;
             } catch (MugloarException me) {
+                consecutiveErrors++;
                 LOGGER.error("MugloarException occurred: {}. Continuing the game.", me.getCode());
                 sendGameStateUpdate(game.getGameId(), "game_error", "Encountered an error during game.");
             } catch (Exception e) {
+                consecutiveErrors++;
                 LOGGER.error("An unexpected error occurred: {}. Continuing the game.", e.getMessage(), e);
                 sendGameStateUpdate(game.getGameId(), "unexpected_error", "Unexpected error occurred.");
             }
         }
     }
 
+    /**
+     * Asks the loop of a game to stop. The loop notices it before its next phase, terminates the game and stores its
+     * partial result. A game that is already being finalized is left alone, so neither the flag nor the abort can hit
+     * its finalization.
+     *
+     * @param abort Aborts the call the game loop is waiting on, run only if the game is cancelled.
+     * @return false if the game is already being finalized, true otherwise
+     */
+    public boolean cancelGame(String gameId, Runnable abort) {
+        synchronized (finalizingGames) {
+            if (finalizingGames.contains(String.valueOf(gameId))) {
+                return false;
+            }
+
+            cancelledGames.add(String.valueOf(gameId));
+            abort.run();
+            return true;
+        }
+    }
+
+    public boolean isCancelled(String gameId) {
+        return cancelledGames.contains(String.valueOf(gameId));
+    }
+
+    /**
+     * Marks a game as being finalized. From then on cancelGame refuses it, until releaseGame is called once whoever
+     * runs the game is done with it. A game without an ID, such as one that hit Game Over while starting, has no
+     * runner to release it and is not marked.
+     */
+    public void beginFinalization(String gameId) {
+        if (gameId == null) {
+            return;
+        }
+
+        synchronized (finalizingGames) {
+            finalizingGames.add(String.valueOf(gameId));
+        }
+    }
+
+    public void releaseGame(String gameId) {
+        if (gameId == null) {
+            return;
+        }
+
+        finalizingGames.remove(String.valueOf(gameId));
+        cancelledGames.remove(String.valueOf(gameId));
+    }
+
+    /**
+     * Checks a game against the turn, wall time and consecutive error budgets. A budget of zero is unlimited.
+     *
+     * @return why the game is over its budget, or null if it is within
+     */
+    public String findExceededBudget(Game game, long startedNanos, int consecutiveErrors) {
+        if (maxTurns > 0 && game.getTurn() >= maxTurns) {
+            return "Turn budget of " + maxTurns + " exceeded.";
+        }
+
+        if (maxDuration != null && !maxDuration.isZero()
+                && System.nanoTime() - startedNanos >= maxDuration.toNanos()) {
+            return "Time budget of " + maxDuration + " exceeded.";
+        }
+
+        if (maxConsecutiveErrors > 0 && consecutiveErrors >= maxConsecutiveErrors) {
+            return "Failed " + consecutiveErrors + " game loops in a row.";
+        }
+
+        return null;
+    }
+
     public boolean performInvestigation(Game game) {
         try {
+            gameMetricsService.recordApiCall(game.getGameId());
             Investigation investigation = mugloarService.investigate(game.getGameId());
 
             if (investigation == null) {
@@ -130,7 +266,7 @@ public class GameFacade {
                 return false;
             }
 
-            strategyService.processInvestigation(investigation);
+            strategyService.processInvestigation(game.getGameId(), investigation);
 
             LOGGER.info("Investigation phase completed for GameID={}.", game.getGameId());
             return true;
@@ -150,6 +286,7 @@ public class GameFacade {
 
     public boolean performMessageSolving(Game game, List<ProcessedMessage> processedMessages) {
         try {
+            gameMetricsService.recordApiCall(game.getGameId());
             List<Message> messages = mugloarService.getMessages(game.getGameId());
 
             if (messages == null || messages.isEmpty()) {
@@ -158,11 +295,11 @@ public class GameFacade {
                 return false;
             }
 
-            List<Message> allMessages = new ArrayList<>(messages);
+            MessageBoard messageBoard = strategyService.createMessageBoard(messages, game);
             boolean anyMessageSolved = false;
 
-            while (!allMessages.isEmpty()) {
-                Message chosenMessage = strategyService.chooseMessage(allMessages, game);
+            while (!messageBoard.isEmpty() && !isCancelled(game.getGameId())) {
+                Message chosenMessage = messageBoard.poll();
 
                 if (chosenMessage == null) {
                     LOGGER.info("No suitable messages left to solve for GameID={}.", game.getGameId());
@@ -174,46 +311,14 @@ public class GameFacade {
                 sendGameStateUpdate(game.getGameId(), "now_solving_message", chosenMessage.getDecodedMessage());
 
                 // Attempt to solve the message
+                gameMetricsService.recordApiCall(game.getGameId());
                 MessageSolveResponse solveResponse = mugloarService.solveMessage(game.getGameId(),
                         chosenMessage.getDecodedAdId());
 
-                if (solveResponse != null && solveResponse.isSuccess()) {
-                    LOGGER.info("Successfully solved message '{}'.", chosenMessage.getDecodedAdId());
-                    updateGameStateFromSolveResponse(game, solveResponse);
-
-                    ProcessedMessage processedMessage = new ProcessedMessage(
-                            chosenMessage.getDecodedAdId(),
-                            chosenMessage.getDecodedMessage(),
-                            game.getTurn(),
-                            chosenMessage.getIntReward(),
-                            true,
-                            solveResponse.getMessage()
-                    );
-                    processedMessages.add(processedMessage);
-
-                    strategyService.markMessageAsSolved(chosenMessage.getDecodedAdId());
+                if (recordSolveOutcome(game, chosenMessage, solveResponse, processedMessages)) {
                     anyMessageSolved = true;
-                    sendGameStateUpdate(game.getGameId(), "message_solved", chosenMessage.getDecodedMessage());
-
-                } else {
-                    LOGGER.warn("Failed to solve message '{}'. Lives left: {}", chosenMessage.getDecodedAdId(),
-                            game.getLives());
-
-                    ProcessedMessage processedMessage = new ProcessedMessage(
-                            chosenMessage.getDecodedAdId(),
-                            chosenMessage.getDecodedMessage(),
-                            game.getTurn(),
-                            chosenMessage.getIntReward(),
-                            false,
-                            solveResponse != null ? solveResponse.getMessage() : "API returned failure response."
-                    );
-
-                    processedMessages.add(processedMessage);
-                    strategyService.recordFailure(chosenMessage.getDecodedAdId());
-                    sendGameStateUpdate(game.getGameId(), "message_failed", chosenMessage.getDecodedMessage());
                 }
 
-                allMessages.remove(chosenMessage);
                 performShopPhase(game);
             }
 
@@ -236,7 +341,13 @@ public class GameFacade {
 
     public void performShopPhase(Game game) {
         try {
-            List<ShopItem> shopItems = mugloarService.getShopItems(game.getGameId());
+            if (shopCatalogService.isBelowCheapestItem(game)) {
+                sendGameStateUpdate(game.getGameId(), "no_items_to_buy", "Not enough gold for any shop item.");
+                return;
+            }
+
+            List<ShopItem> shopItems = shopCatalogService.getCachedItems(game)
+                    .orElseGet(() -> fetchShopItems(game));
 
             if (shopItems == null || shopItems.isEmpty()) {
                 LOGGER.info("No shop items available for GameID={}.", game.getGameId());
@@ -247,20 +358,16 @@ public class GameFacade {
             List<ShopItem> itemsToBuy = strategyService.decideItemsToBuy(game, shopItems);
 
             for (ShopItem item : itemsToBuy) {
+                if (isCancelled(game.getGameId())) {
+                    break;
+                }
+
                 try {
                     sendGameStateUpdate(game.getGameId(), "now_purchasing_item", item.getName());
+                    gameMetricsService.recordApiCall(game.getGameId());
                     ShopPurchaseResponse purchaseResponse = mugloarService.buyItem(game.getGameId(), item.getId());
 
-                    if (purchaseResponse != null && purchaseResponse.isSuccess()) {
-                        LOGGER.info("Bought item '{}'.", item.getName());
-
-                        updateGameStateFromPurchaseResponse(game, purchaseResponse, item.getName());
-                        inventoryService.addItem(game.getGameId(), item);
-                        sendGameStateUpdate(game.getGameId(), "item_purchased", item.getName());
-                    } else {
-                        LOGGER.warn("Failed to buy item '{}'.", item.getName());
-                        sendGameStateUpdate(game.getGameId(), "item_purchase_failed", item.getName());
-                    }
+                    recordPurchaseOutcome(game, item, purchaseResponse);
                 } catch (GameOverException goe) {
                     LOGGER.warn("Game Over detected during item purchase: {}", goe.getMessage());
                     sendGameStateUpdate(game.getGameId(), "game_over", "Game Over detected during item purchase.");
@@ -300,14 +407,6 @@ public class GameFacade {
             return;
         }
 
-        GameResult existingResult = gameResultService.findByGameId(game.getGameId());
-
-        if (existingResult != null) {
-            LOGGER.warn("GameResult for GameID={} already exists. Skipping save.", game.getGameId());
-            sendGameStateUpdate(game.getGameId(), "game_result_exists", "Game result already exists. Skipping save.");
-            return;
-        }
-
         boolean achievedGoal = game.getScore() >= 1000;
 
         if (achievedGoal) {
@@ -339,16 +438,13 @@ public class GameFacade {
                 purchasedItems
         );
 
-        try {
-            gameResultService.save(gameResult);
-            LOGGER.info("GameResult saved: {}", gameResult);
-            sendGameStateUpdate(game.getGameId(), "game_result_saved", "Game result saved successfully.");
-        } catch (DuplicateGameResultException e) {
-            LOGGER.error("Duplicate GameResult detected for GameID={}: {}", game.getGameId(), e.getMessage());
-            sendGameStateUpdate(game.getGameId(), "duplicate_game_result", "Duplicate game result detected.");
-        } catch (Exception e) {
-            LOGGER.error("Failed to save GameResult for GameID={}: {}", game.getGameId(), e.getMessage(), e);
-            sendGameStateUpdate(game.getGameId(), "game_result_save_failed", "Failed to save game result.");
+        // Written by the write-behind writer, which reports game_result_saved once the result is in the database
+        if (gameResultWriter.submit(gameResult)) {
+            LOGGER.info("GameResult queued: {}", gameResult);
+            sendGameStateUpdate(game.getGameId(), "game_result_queued", "Game result queued for saving.");
+        } else {
+            LOGGER.warn("GameResult for GameID={} already exists. Skipping save.", game.getGameId());
+            sendGameStateUpdate(game.getGameId(), "game_result_exists", "Game result already exists. Skipping save.");
         }
     }
 
@@ -359,9 +455,88 @@ public class GameFacade {
             game = new Game();
         }
 
+        beginFinalization(game.getGameId());
+
+        // Clears the interrupt of a cancel that got in before finalization began, so finalization can do its work
+        Thread.interrupted();
+
         LOGGER.info("Terminating game for GameID={} due to: {}", game.getGameId(), terminationReason);
         sendGameStateUpdate(game.getGameId(), "game_terminated", terminationReason);
-        finalizeGame(game, processedMessages);
+
+        Game finishedGame = game;
+
+        try {
+            gameMetricsService.timePhase(finishedGame.getGameId(), GamePhase.FINALIZATION,
+                    () -> finalizeGame(finishedGame, processedMessages));
+        } finally {
+            if (finishedGame.getGameId() != null) {
+                cancelledGames.remove(finishedGame.getGameId());
+            }
+
+            gameMetricsService.finishGame(finishedGame);
+            strategyService.releaseContext(game.getGameId());
+            shopCatalogService.invalidate(game.getGameId());
+            inventoryService.releaseGame(game.getGameId());
+            gameStatePublisher.complete(game.getGameId());
+        }
+    }
+
+    public boolean recordSolveOutcome(Game game, Message chosenMessage, MessageSolveResponse solveResponse,
+                                      List<ProcessedMessage> processedMessages) {
+        if (solveResponse != null && solveResponse.isSuccess()) {
+            LOGGER.info("Successfully solved message '{}'.", chosenMessage.getDecodedAdId());
+            updateGameStateFromSolveResponse(game, solveResponse);
+
+            ProcessedMessage processedMessage = new ProcessedMessage(
+                    chosenMessage.getDecodedAdId(),
+                    chosenMessage.getDecodedMessage(),
+                    game.getTurn(),
+                    chosenMessage.getIntReward(),
+                    true,
+                    solveResponse.getMessage(),
+                    chosenMessage.getProbability()
+            );
+            processedMessages.add(processedMessage);
+
+            strategyService.markMessageAsSolved(game.getGameId(), chosenMessage.getDecodedAdId());
+            gameMetricsService.recordSolve(game.getGameId(), true);
+            sendGameStateUpdate(game.getGameId(), "message_solved", chosenMessage.getDecodedMessage());
+            return true;
+        }
+
+        LOGGER.warn("Failed to solve message '{}'. Lives left: {}", chosenMessage.getDecodedAdId(),
+                game.getLives());
+
+        ProcessedMessage processedMessage = new ProcessedMessage(
+                chosenMessage.getDecodedAdId(),
+                chosenMessage.getDecodedMessage(),
+                game.getTurn(),
+                chosenMessage.getIntReward(),
+                false,
+                solveResponse != null ? solveResponse.getMessage() : "API returned failure response.",
+                chosenMessage.getProbability()
+        );
+
+        processedMessages.add(processedMessage);
+        strategyService.recordFailure(game.getGameId(), chosenMessage.getDecodedAdId());
+        gameMetricsService.recordSolve(game.getGameId(), false);
+        sendGameStateUpdate(game.getGameId(), "message_failed", chosenMessage.getDecodedMessage());
+        return false;
+    }
+
+    public void recordPurchaseOutcome(Game game, ShopItem item, ShopPurchaseResponse purchaseResponse) {
+        if (purchaseResponse != null && purchaseResponse.isSuccess()) {
+            LOGGER.info("Bought item '{}'.", item.getName());
+
+            updateGameStateFromPurchaseResponse(game, purchaseResponse, item.getName());
+            inventoryService.addItem(game.getGameId(), item);
+            gameMetricsService.recordPurchase(game.getGameId());
+            sendGameStateUpdate(game.getGameId(), "item_purchased", item.getName());
+        } else {
+            LOGGER.warn("Failed to buy item '{}'.", item.getName());
+            shopCatalogService.invalidate(game.getGameId());
+            sendGameStateUpdate(game.getGameId(), "item_purchase_failed", item.getName());
+        }
     }
 
     public void updateGameStateFromSolveResponse(Game game, MessageSolveResponse solveResponse) {
@@ -381,9 +556,21 @@ public class GameFacade {
     }
 
     // PRIVATE METHODS //
+    private void checkCancelled(Game game) {
+        if (isCancelled(game.getGameId())) {
+            throw new GameCancelledException("error.game.cancelled");
+        }
+    }
+
+    private List<ShopItem> fetchShopItems(Game game) {
+        gameMetricsService.recordApiCall(game.getGameId());
+        List<ShopItem> shopItems = mugloarService.getShopItems(game.getGameId());
+        shopCatalogService.cacheItems(game, shopItems);
+        return shopItems;
+    }
+
     private void sendGameStateUpdate(String gameId, String state, String message) {
-        GameStateMessage gameStateMessage = new GameStateMessage(gameId, state, message, LocalDateTime.now());
-        messagingTemplate.convertAndSend("/topic/game-status/" + gameId, gameStateMessage);
+        gameStatePublisher.publish(gameId, state, message);
     }
 
     private void updateGameStateFromPurchaseResponse(Game game, ShopPurchaseResponse purchaseResponse,
@@ -0,0 +1,322 @@
+package com.bigbank.mugloarserver.facades;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.models.*;
+import com.bigbank.mugloarserver.services.GameMetricsService;
+import com.bigbank.mugloarserver.services.GameMetricsService.GamePhase;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import com.bigbank.mugloarserver.services.InventoryService;
+import com.bigbank.mugloarserver.services.ReactiveMugloarService;
+import com.bigbank.mugloarserver.services.ShopCatalogService;
+import com.bigbank.mugloarserver.services.StrategyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A non-blocking variant of GameFacade's game loop. Investigation, message solving and shopping are composed as
+ * Reactor operators over ReactiveMugloarService, so a single event-loop thread can drive many games at once. Game
+ * state bookkeeping and finalization are shared with GameFacade.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Component
+public class ReactiveGameFacade {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveGameFacade.class);
+
+    @Autowired
+    private ReactiveMugloarService reactiveMugloarService;
+
+    @Autowired
+    private StrategyService strategyService;
+
+    @Autowired
+    private ShopCatalogService shopCatalogService;
+
+    @Autowired
+    private GameFacade gameFacade;
+
+    @Autowired
+    private GameStatePublisher gameStatePublisher;
+
+    @Autowired
+    private GameMetricsService gameMetricsService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    public Mono<Void> playGame(Game game) {
+        if (game == null) {
+            LOGGER.error("Game is null. Cannot proceed with game play.");
+            return Mono.empty();
+        }
+
+        List<ProcessedMessage> processedMessages = new ArrayList<>();
+        AtomicBoolean terminated = new AtomicBoolean();
+        AtomicInteger consecutiveErrors = new AtomicInteger();
+        gameMetricsService.startGame(game);
+        long startedNanos = System.nanoTime();
+
+        return Mono.defer(() -> playTurn(game, processedMessages, consecutiveErrors))
+                .repeat(() -> !gameFacade.isCancelled(game.getGameId())
+                        && gameFacade.findExceededBudget(game, startedNanos, consecutiveErrors.get()) == null)
+                .then(Mono.defer(() -> stopGame(game, processedMessages, startedNanos, consecutiveErrors.get(),
+                        terminated)))
+                .onErrorResume(GameOverException.class, goe -> {
+                    LOGGER.warn("Game Over detected: {}. Terminating the game.", goe.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_over", "Game Over detected.");
+
+                    return terminateGame(game, processedMessages, "Game Over detected from API.", terminated);
+                })
+                // Disposing the subscription cancels the in-flight call, the partial result is still stored
+                .doOnCancel(() -> {
+                    if (terminated.get()) {
+                        return;
+                    }
+
+                    LOGGER.warn("GameID={} was cancelled. Terminating the game.", game.getGameId());
+                    sendGameStateUpdate(game.getGameId(), "game_cancelled", "Game cancelled.");
+                    terminateGame(game, processedMessages, "Game cancelled.", terminated).subscribe();
+                });
+    }
+
+    public Mono<Boolean> performInvestigation(Game game) {
+        return apiCall(game, () -> reactiveMugloarService.investigate(game.getGameId()))
+                .map(investigation -> {
+                    strategyService.processInvestigation(game.getGameId(), investigation);
+                    LOGGER.info("Investigation phase completed for GameID={}.", game.getGameId());
+                    return true;
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> !(e instanceof GameOverException), e -> {
+                    LOGGER.error("Failed to investigate for GameID={}: {}. Continuing the game.", game.getGameId(),
+                            e.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_error", "Encountered an error during investigation.");
+                    return Mono.just(false);
+                });
+    }
+
+    public Mono<Boolean> performMessageSolving(Game game, List<ProcessedMessage> processedMessages) {
+        return apiCall(game, () -> reactiveMugloarService.getMessages(game.getGameId()))
+                .flatMap(messages -> {
+                    if (messages.isEmpty()) {
+                        LOGGER.info("No messages available for GameID={}.", game.getGameId());
+                        sendGameStateUpdate(game.getGameId(), "no_messages_available", "No messages available to " +
+                                "solve.");
+                        return Mono.just(false);
+                    }
+
+                    return solveNextMessage(game, strategyService.createMessageBoard(messages, game),
+                            processedMessages, false);
+                })
+                .defaultIfEmpty(false)
+                .onErrorResume(GameOverException.class, goe -> {
+                    LOGGER.warn("Game Over detected during message solving: {}", goe.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_over", "Game Over detected during message solving.");
+                    return Mono.error(goe);
+                })
+                .onErrorResume(e -> !(e instanceof GameOverException), e -> {
+                    LOGGER.error("Error during message solving for GameID={}: {}. Continuing the game.",
+                            game.getGameId(), e.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_error", "Encountered an error during message " +
+                            "solving.");
+                    return Mono.just(false);
+                });
+    }
+
+    public Mono<Void> performShopPhase(Game game) {
+        if (shopCatalogService.isBelowCheapestItem(game)) {
+            sendGameStateUpdate(game.getGameId(), "no_items_to_buy", "Not enough gold for any shop item.");
+            return Mono.empty();
+        }
+
+        return Mono.justOrEmpty(shopCatalogService.getCachedItems(game))
+                .switchIfEmpty(apiCall(game, () -> reactiveMugloarService.getShopItems(game.getGameId()))
+                        .doOnNext(shopItems -> shopCatalogService.cacheItems(game, shopItems)))
+                .flatMap(shopItems -> {
+                    if (shopItems.isEmpty()) {
+                        LOGGER.info("No shop items available for GameID={}.", game.getGameId());
+                        sendGameStateUpdate(game.getGameId(), "no_shop_items", "No shop items available.");
+                        return Mono.<Void>empty();
+                    }
+
+                    List<ShopItem> itemsToBuy = strategyService.decideItemsToBuy(game, shopItems);
+
+                    if (itemsToBuy.isEmpty()) {
+                        LOGGER.info("No items decided to buy for GameID={}.", game.getGameId());
+                        sendGameStateUpdate(game.getGameId(), "no_items_to_buy", "No items decided to purchase.");
+                        return Mono.<Void>empty();
+                    }
+
+                    return Flux.fromIterable(itemsToBuy)
+                            .concatMap(item -> buyItem(game, item))
+                            .then();
+                })
+                .onErrorResume(GameOverException.class, goe -> {
+                    LOGGER.warn("Game Over detected during shopping phase: {}", goe.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_over", "Game Over detected during shopping phase.");
+                    return Mono.error(goe);
+                })
+                .onErrorResume(e -> !(e instanceof GameOverException), e -> {
+                    LOGGER.error("Error during shop phase for GameID={}: {}. Continuing the game.", game.getGameId(),
+                            e.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "shop_error", "Encountered an error during shopping phase.");
+                    return Mono.empty();
+                });
+    }
+
+    // PRIVATE METHODS //
+    private Mono<Void> stopGame(Game game, List<ProcessedMessage> processedMessages, long startedNanos,
+                                int consecutiveErrors, AtomicBoolean terminated) {
+        if (gameFacade.isCancelled(game.getGameId())) {
+            LOGGER.warn("GameID={} was cancelled. Terminating the game.", game.getGameId());
+            sendGameStateUpdate(game.getGameId(), "game_cancelled", "Game cancelled.");
+            return terminateGame(game, processedMessages, "Game cancelled.", terminated);
+        }
+
+        String exceededBudget = gameFacade.findExceededBudget(game, startedNanos, consecutiveErrors);
+        LOGGER.warn("GameID={} exceeded its budget: {}. Terminating the game.", game.getGameId(), exceededBudget);
+        sendGameStateUpdate(game.getGameId(), "game_budget_exceeded", exceededBudget);
+        return terminateGame(game, processedMessages, exceededBudget, terminated);
+    }
+
+    /**
+     * The game is marked as finalizing before anything else, so a cancel cannot dispose the game loop from then on.
+     * Termination runs in a subscription of its own, so disposing the game loop while it runs cannot abort it halfway;
+     * the returned Mono only waits for it.
+     */
+    private Mono<Void> terminateGame(Game game, List<ProcessedMessage> processedMessages, String reason,
+                                     AtomicBoolean terminated) {
+        gameFacade.beginFinalization(game.getGameId());
+
+        if (!terminated.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+
+        Mono<Void> termination = Mono.<Void>fromRunnable(() -> gameFacade.terminateGame(game, processedMessages,
+                        reason))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        return Mono.create(sink -> termination.subscribe(null, sink::error, sink::success));
+    }
+
+    private Mono<Void> playTurn(Game game, List<ProcessedMessage> processedMessages,
+                                AtomicInteger consecutiveErrors) {
+        LOGGER.debug("Starting a new game loop for GameID={}", game.getGameId());
+        int turnBefore = game.getTurn();
+        AtomicBoolean progressed = new AtomicBoolean();
+
+        return gameMetricsService.timePhase(game.getGameId(), GamePhase.INVESTIGATION, performInvestigation(game))
+                .flatMap(investigated -> {
+                    if (investigated) {
+                        progressed.set(true);
+                        sendGameStateUpdate(game.getGameId(), "investigation_completed", "Investigation phase " +
+                                "completed.");
+                    } else {
+                        LOGGER.warn("Investigation failed for GameID={}. Continuing the game.", game.getGameId());
+                        sendGameStateUpdate(game.getGameId(), "investigation_failed", "Investigation failed.");
+                    }
+
+                    return gameMetricsService.timePhase(game.getGameId(), GamePhase.MESSAGE_SOLVING,
+                            performMessageSolving(game, processedMessages));
+                })
+                .flatMap(solvedAnyMessage -> {
+                    if (solvedAnyMessage) {
+                        progressed.set(true);
+                        sendGameStateUpdate(game.getGameId(), "messages_solved", "Solved messages successfully.");
+                    } else {
+                        LOGGER.info("No messages solved in this loop for GameID={}. Continuing the game.",
+                                game.getGameId());
+                        sendGameStateUpdate(game.getGameId(), "no_messages_solved", "No messages solved in this loop.");
+                    }
+
+                    return gameMetricsService.timePhase(game.getGameId(), GamePhase.SHOP, performShopPhase(game));
+                })
+                .then(Mono.fromRunnable(() -> {
+                    sendGameStateUpdate(game.getGameId(), "shop_phase_completed", "Completed Shop Phase.");
+
+                    // A loop that got nowhere, typically because every call failed, counts against the error budget
+                    boolean loopProgressed = progressed.get() || game.getTurn() > turnBefore;
+                    consecutiveErrors.set(loopProgressed ? 0 : consecutiveErrors.get() + 1);
+
+                    gameMetricsService.recordLoop(game);
+                    inventoryService.touch(game.getGameId());
+                    sendGameStateUpdate(game.getGameId(), "game_loop_completed", "Completed a game loop.");
+                }))
+                .then()
+                .onErrorResume(e -> !(e instanceof GameOverException), e -> {
+                    consecutiveErrors.incrementAndGet();
+                    LOGGER.error("An unexpected error occurred: {}. Continuing the game.", e.getMessage(), e);
+                    sendGameStateUpdate(game.getGameId(), "unexpected_error", "Unexpected error occurred.");
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Boolean> solveNextMessage(Game game, MessageBoard messageBoard,
+                                           List<ProcessedMessage> processedMessages, boolean anyMessageSolved) {
+        if (messageBoard.isEmpty()) {
+            return Mono.just(anyMessageSolved);
+        }
+
+        Message chosenMessage = messageBoard.poll();
+
+        if (chosenMessage == null) {
+            LOGGER.info("No suitable messages left to solve for GameID={}.", game.getGameId());
+            sendGameStateUpdate(game.getGameId(), "no_suitable_messages", "No suitable messages left to solve.");
+            return Mono.just(anyMessageSolved);
+        }
+
+        sendGameStateUpdate(game.getGameId(), "now_solving_message", chosenMessage.getDecodedMessage());
+
+        return apiCall(game, () -> reactiveMugloarService.solveMessage(game.getGameId(),
+                        chosenMessage.getDecodedAdId()))
+                .map(solveResponse -> gameFacade.recordSolveOutcome(game, chosenMessage, solveResponse,
+                        processedMessages))
+                .flatMap(solved -> performShopPhase(game).thenReturn(solved))
+                .flatMap(solved -> solveNextMessage(game, messageBoard, processedMessages,
+                        anyMessageSolved || solved));
+    }
+
+    private Mono<Void> buyItem(Game game, ShopItem item) {
+        sendGameStateUpdate(game.getGameId(), "now_purchasing_item", item.getName());
+
+        return apiCall(game, () -> reactiveMugloarService.buyItem(game.getGameId(), item.getId()))
+                .doOnNext(purchaseResponse -> gameFacade.recordPurchaseOutcome(game, item, purchaseResponse))
+                .onErrorResume(GameOverException.class, goe -> {
+                    LOGGER.warn("Game Over detected during item purchase: {}", goe.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "game_over", "Game Over detected during item purchase.");
+                    return Mono.error(goe);
+                })
+                .onErrorResume(e -> !(e instanceof GameOverException), e -> {
+                    LOGGER.error("Error buying item '{}': {}. Continuing the game.", item.getName(), e.getMessage());
+                    sendGameStateUpdate(game.getGameId(), "shop_error", "Encountered an error during item purchase.");
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Counts the call for the game's statistics when it is actually made, which is on subscription.
+     */
+    private <T> Mono<T> apiCall(Game game, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            gameMetricsService.recordApiCall(game.getGameId());
+            return call.get();
+        });
+    }
+
+    private void sendGameStateUpdate(String gameId, String state, String message) {
+        gameStatePublisher.publish(gameId, state, message);
+    }
+}
@@ -21,7 +21,8 @@ import java.util.UUID;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "game_result", uniqueConstraints = {@UniqueConstraint(columnNames = {"game_id"})})
+@Table(name = "game_result", uniqueConstraints = {@UniqueConstraint(columnNames = {"game_id"})},
+        indexes = {@Index(name = "idx_game_result_timestamp", columnList = "timestamp DESC, id DESC")})
 public class GameResult {
     @Id
     @Column(name = "id", updatable = false, nullable = false)
@@ -0,0 +1,27 @@
+package com.bigbank.mugloarserver.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GameResultSummary projection that holds the columns of a GameResult shown in the game history, without its
+ * processed messages and purchased items.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameResultSummary {
+    UUID getId();
+
+    String getGameId();
+
+    int getScore();
+
+    int getLevel();
+
+    int getTurn();
+
+    boolean isAchievedGoal();
+
+    LocalDateTime getTimestamp();
+}
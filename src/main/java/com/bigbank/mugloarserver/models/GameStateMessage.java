@@ -6,7 +6,8 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 /**
- * GameStateMessage model
+ * GameStateMessage model. The sequence number grows with every update of a game, so a client can drop updates it
+ * already received through a replay. Numbers are shared by all games, so those of a single game may skip.
  *
  * @author vinodjohn
  * @created 13.12.2024
@@ -18,4 +19,5 @@ public class GameStateMessage {
     private String state;
     private String message;
     private LocalDateTime timestamp;
+    private long sequence;
 }
@@ -1,69 +1,93 @@
 package com.bigbank.mugloarserver.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 /**
- * Message model that represents a task (message) retrieved from the message board in the game.
+ * Message model that represents a task (message) retrieved from the message board in the game. A message is
+ * immutable: the Base64-encoded ad id and text are decoded, and the reward and probability label are parsed once, when
+ * the message is created.
  *
  * @author vinodjohn
  * @created 07.12.2024
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode(of = {"adId", "message", "reward", "expiresIn", "encrypted", "probability"})
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class Message {
-    @JsonProperty("adId")
-    private String adId;
+    private final String adId;
+    private final String message;
+    private final String reward;
+    private final int expiresIn;
+    private final Integer encrypted;
+    private final String probability;
 
-    @JsonProperty("message")
-    private String message;
+    @ToString.Exclude
+    private final String decodedAdId;
 
-    @JsonProperty("reward")
-    private String reward;
+    @ToString.Exclude
+    private final String decodedMessage;
 
-    @JsonProperty("expiresIn")
-    private int expiresIn;
+    @ToString.Exclude
+    private final int intReward;
 
-    @JsonProperty("encrypted")
-    private Integer encrypted;
+    @ToString.Exclude
+    private final ProbabilityLabel probabilityLabel;
 
-    @JsonProperty("probability")
-    private String probability;
+    @JsonCreator
+    public Message(@JsonProperty("adId") String adId,
+                   @JsonProperty("message") String message,
+                   @JsonProperty("reward") String reward,
+                   @JsonProperty("expiresIn") int expiresIn,
+                   @JsonProperty("encrypted") Integer encrypted,
+                   @JsonProperty("probability") String probability) {
+        this.adId = adId;
+        this.message = message;
+        this.reward = reward;
+        this.expiresIn = expiresIn;
+        this.encrypted = encrypted;
+        this.probability = probability;
 
-    public String getDecodedAdId() {
-        if (this.encrypted != null && this.encrypted == 1) {
-            try {
-                return new String(Base64.getDecoder().decode(this.adId));
-            } catch (IllegalArgumentException e) {
-                return "Invalid encoded adId.";
-            }
-        }
-        return this.adId;
+        boolean isEncrypted = encrypted != null && encrypted == 1;
+        this.decodedAdId = isEncrypted ? decode(adId, "Invalid encoded adId.") : adId;
+        this.decodedMessage = isEncrypted ? decode(message, "Invalid encoded message.") : message;
+        this.intReward = parseReward(reward);
+        this.probabilityLabel = ProbabilityLabel.fromLabel(probability);
     }
 
-    public String getDecodedMessage() {
-        if (this.encrypted != null && this.encrypted == 1) {
-            try {
-                return new String(Base64.getDecoder().decode(this.message));
-            } catch (IllegalArgumentException e) {
-                return "Invalid encoded message.";
-            }
+    // PRIVATE METHODS //
+    private static String decode(String value, String fallback) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return fallback;
         }
-        return this.message;
     }
 
-    public Integer getIntReward() {
-        if (this.reward != null) {
-            return Integer.parseInt(this.reward);
+    /**
+     * A missing or malformed reward is parsed as 0, which message validation rejects.
+     */
+    private static int parseReward(String reward) {
+        if (reward == null) {
+            return 0;
         }
 
-        return null;
+        try {
+            return Integer.parseInt(reward.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
 }
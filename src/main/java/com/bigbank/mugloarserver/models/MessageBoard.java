@@ -0,0 +1,100 @@
+package com.bigbank.mugloarserver.models;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * MessageBoard model that holds the scored messages of one board in a priority queue, so the next best message is
+ * popped in O(log n) instead of re-scoring the whole board for every pick. The board is only re-scored when the
+ * scoring state it was scored under changes, e.g. after a purchase raised the dragon level.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class MessageBoard {
+    private static final Comparator<ScoredMessage> BEST_FIRST = Comparator.comparingDouble(ScoredMessage::score)
+            .reversed()
+            .thenComparingInt(ScoredMessage::position);
+
+    private final ToDoubleFunction<Message> scorer;
+    private final DoubleSupplier scoringState;
+    private final Predicate<Message> isSkipped;
+    private final PriorityQueue<ScoredMessage> queue;
+    private double scoredState;
+
+    /**
+     * @param messages     The messages of the board, in board order.
+     * @param scorer       Scores a message, higher is better.
+     * @param scoringState A value that changes whenever the scorer would score the board differently.
+     * @param isSkipped    Messages that must no longer be chosen, such as ones solved in the meantime.
+     */
+    public MessageBoard(List<Message> messages, ToDoubleFunction<Message> scorer, DoubleSupplier scoringState,
+                        Predicate<Message> isSkipped) {
+        this.scorer = scorer;
+        this.scoringState = scoringState;
+        this.isSkipped = isSkipped;
+        this.scoredState = scoringState.getAsDouble();
+
+        List<ScoredMessage> scoredMessages = new ArrayList<>(messages.size());
+
+        for (int i = 0; i < messages.size(); i++) {
+            scoredMessages.add(new ScoredMessage(messages.get(i), scorer.applyAsDouble(messages.get(i)), i));
+        }
+
+        this.queue = new PriorityQueue<>(BEST_FIRST);
+        this.queue.addAll(scoredMessages);
+    }
+
+    /**
+     * Removes and returns the best message left on the board.
+     *
+     * @return The best message, or null if no message is left.
+     */
+    public Message poll() {
+        double state = scoringState.getAsDouble();
+
+        if (Double.compare(state, scoredState) != 0) {
+            rescore();
+            scoredState = state;
+        }
+
+        ScoredMessage best;
+
+        while ((best = queue.poll()) != null) {
+            if (!isSkipped.test(best.message())) {
+                return best.message();
+            }
+        }
+
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    // PRIVATE METHODS //
+    private void rescore() {
+        List<ScoredMessage> scoredMessages = new ArrayList<>(queue.size());
+
+        for (ScoredMessage scoredMessage : queue) {
+            scoredMessages.add(new ScoredMessage(scoredMessage.message(),
+                    scorer.applyAsDouble(scoredMessage.message()), scoredMessage.position()));
+        }
+
+        queue.clear();
+        queue.addAll(scoredMessages);
+    }
+
+    private record ScoredMessage(Message message, double score, int position) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.bigbank.mugloarserver.models;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ProbabilityLabel model that lists the probability labels the message board attaches to a message, each with a prior
+ * success rate used until enough outcomes have been recorded for it.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public enum ProbabilityLabel {
+    SURE_THING("Sure thing", 0.95),
+    PIECE_OF_CAKE("Piece of cake", 0.95),
+    WALK_IN_THE_PARK("Walk in the park", 0.90),
+    QUITE_LIKELY("Quite likely", 0.80),
+    HMMM("Hmmm....", 0.65),
+    GAMBLE("Gamble", 0.50),
+    RISKY("Risky", 0.40),
+    RATHER_DETRIMENTAL("Rather detrimental", 0.30),
+    PLAYING_WITH_FIRE("Playing with fire", 0.25),
+    SUICIDE_MISSION("Suicide mission", 0.10),
+    IMPOSSIBLE("Impossible", 0.02),
+    UNKNOWN("", 0.50);
+
+    private static final Map<String, ProbabilityLabel> BY_LABEL = new HashMap<>();
+
+    static {
+        for (ProbabilityLabel probabilityLabel : values()) {
+            BY_LABEL.put(probabilityLabel.label.toLowerCase(Locale.ROOT), probabilityLabel);
+        }
+    }
+
+    private final String label;
+    private final double priorSuccessRate;
+
+    ProbabilityLabel(String label, double priorSuccessRate) {
+        this.label = label;
+        this.priorSuccessRate = priorSuccessRate;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public double getPriorSuccessRate() {
+        return priorSuccessRate;
+    }
+
+    public static ProbabilityLabel fromLabel(String label) {
+        if (label == null) {
+            return UNKNOWN;
+        }
+
+        return BY_LABEL.getOrDefault(label.trim().toLowerCase(Locale.ROOT), UNKNOWN);
+    }
+}
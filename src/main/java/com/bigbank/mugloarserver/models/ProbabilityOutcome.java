@@ -0,0 +1,15 @@
+package com.bigbank.mugloarserver.models;
+
+/**
+ * ProbabilityOutcome projection that holds the number of attempted and successful messages for a probability label.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface ProbabilityOutcome {
+    String getProbability();
+
+    long getAttempts();
+
+    long getSuccesses();
+}
@@ -22,4 +22,5 @@ public class ProcessedMessage {
     private int reward;
     private boolean success;
     private String failureReason;
+    private String probability;
 }
@@ -0,0 +1,42 @@
+package com.bigbank.mugloarserver.models;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * StrategyContext model that holds the strategy state of a single game: the reputation multipliers from the latest
+ * investigation and the solved/failed message bookkeeping. A context is only touched by its own game loop.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Getter
+@ToString
+public class StrategyContext {
+    private final String gameId;
+    private final Set<String> solvedMessageIds = new HashSet<>();
+    private final Map<String, Integer> failureCounts = new HashMap<>();
+
+    @Setter
+    private double peopleMultiplier = 1.0;
+
+    @Setter
+    private double stateMultiplier = 1.0;
+
+    @Setter
+    private double underworldMultiplier = 1.0;
+
+    public StrategyContext(String gameId) {
+        this.gameId = gameId;
+    }
+
+    public double getTotalMultiplier() {
+        return peopleMultiplier + stateMultiplier + underworldMultiplier;
+    }
+}
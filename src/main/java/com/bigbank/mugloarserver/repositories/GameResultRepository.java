@@ -1,10 +1,16 @@
 package com.bigbank.mugloarserver.repositories;
 
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
+import com.bigbank.mugloarserver.models.ProbabilityOutcome;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -15,7 +21,7 @@ import java.util.UUID;
  */
 @Repository
 public interface GameResultRepository extends PagingAndSortingRepository<GameResult, UUID>, JpaRepository<GameResult,
-        UUID> {
+        UUID>, GameResultRepositoryCustom {
     /**
      * Finds a GameResult by its gameId.
      *
@@ -23,4 +29,40 @@ public interface GameResultRepository extends PagingAndSortingRepository<GameRes
      * @return The corresponding GameResult, or null if not found.
      */
     GameResult findByGameId(String gameId);
+
+    /**
+     * Counts the attempted and successful messages of all stored games per probability label.
+     *
+     * @return One ProbabilityOutcome per probability label.
+     */
+    @Query("SELECT pm.probability AS probability, COUNT(pm) AS attempts, " +
+            "SUM(CASE WHEN pm.success = true THEN 1 ELSE 0 END) AS successes " +
+            "FROM GameResult g JOIN g.processedMessages pm GROUP BY pm.probability")
+    List<ProbabilityOutcome> findProbabilityOutcomes();
+
+    /**
+     * Finds the summaries of the most recently finished games, newest first.
+     *
+     * @param limit The maximum number of summaries.
+     * @return The summaries, ordered by timestamp and id descending.
+     */
+    @Query("SELECT g.id AS id, g.gameId AS gameId, g.score AS score, g.level AS level, g.turn AS turn, " +
+            "g.achievedGoal AS achievedGoal, g.timestamp AS timestamp " +
+            "FROM GameResult g ORDER BY g.timestamp DESC, g.id DESC")
+    List<GameResultSummary> findLatestSummaries(Limit limit);
+
+    /**
+     * Finds the summaries of the games finished before a given one, newest first. Seeking past the last row of the
+     * previous page through the timestamp index costs the same however deep the page is.
+     *
+     * @param timestamp The timestamp of the last summary of the previous page.
+     * @param id        The id of the last summary of the previous page.
+     * @param limit     The maximum number of summaries.
+     * @return The summaries, ordered by timestamp and id descending.
+     */
+    @Query("SELECT g.id AS id, g.gameId AS gameId, g.score AS score, g.level AS level, g.turn AS turn, " +
+            "g.achievedGoal AS achievedGoal, g.timestamp AS timestamp " +
+            "FROM GameResult g WHERE g.timestamp < :timestamp OR (g.timestamp = :timestamp AND g.id < :id) " +
+            "ORDER BY g.timestamp DESC, g.id DESC")
+    List<GameResultSummary> findSummariesBefore(LocalDateTime timestamp, UUID id, Limit limit);
 }
@@ -0,0 +1,23 @@
+package com.bigbank.mugloarserver.repositories;
+
+import com.bigbank.mugloarserver.models.GameResult;
+
+import java.util.List;
+
+/**
+ * Repository fragment with GameResult writes done in plain JDBC
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameResultRepositoryCustom {
+    /**
+     * Inserts every GameResult whose gameId is not stored yet, with its processed messages and purchased items. Each
+     * result is one insert-if-absent statement and every table is written as one JDBC batch, so a duplicate is skipped
+     * without an exception and without reading first. Inserted results that have no ID are given one.
+     *
+     * @param gameResults The GameResults to insert.
+     * @return For each GameResult, in order, whether it was inserted.
+     */
+    boolean[] insertAllIfAbsent(List<GameResult> gameResults);
+}
@@ -0,0 +1,122 @@
+package com.bigbank.mugloarserver.repositories;
+
+import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.ProcessedMessage;
+import com.bigbank.mugloarserver.models.ShopItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of GameResultRepositoryCustom. The statements run on the connection of the surrounding
+ * transaction and follow the column names Hibernate maps GameResult to.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameResultRepositoryCustomImpl implements GameResultRepositoryCustom {
+    private static final String INSERT_GAME_RESULT_IF_ABSENT = "INSERT INTO game_result (id, game_id, score, " +
+            "high_score, lives, gold, level, turn, achieved_goal, timestamp) " +
+            "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, ? " +
+            "WHERE NOT EXISTS (SELECT 1 FROM game_result WHERE game_id = ?)";
+    private static final String INSERT_PROCESSED_MESSAGE = "INSERT INTO processed_messages (game_result_id, " +
+            "decoded_ad_id, decoded_message, turn, reward, success, failure_reason, probability) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SHOP_ITEM = "INSERT INTO shop_items (game_result_id, id, name, cost) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GameResultRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] insertAllIfAbsent(List<GameResult> gameResults) {
+        List<Object[]> gameResultRows = new ArrayList<>(gameResults.size());
+        UUID[] ids = new UUID[gameResults.size()];
+
+        for (int i = 0; i < ids.length; i++) {
+            GameResult gameResult = gameResults.get(i);
+            // Only results that turn out to be inserted get this id, a duplicate keeps the one it came with
+            ids[i] = gameResult.getId() != null ? gameResult.getId() : UUID.randomUUID();
+
+            gameResultRows.add(new Object[]{ids[i], gameResult.getGameId(), gameResult.getScore(),
+                    gameResult.getHighScore(), gameResult.getLives(), gameResult.getGold(), gameResult.getLevel(),
+                    gameResult.getTurn(), gameResult.isAchievedGoal(), gameResult.getTimestamp(),
+                    gameResult.getGameId()});
+        }
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(INSERT_GAME_RESULT_IF_ABSENT, gameResultRows);
+        Set<UUID> unreportedIds = findUnreportedIds(updateCounts, ids);
+        boolean[] inserted = new boolean[gameResults.size()];
+        List<Object[]> processedMessageRows = new ArrayList<>();
+        List<Object[]> shopItemRows = new ArrayList<>();
+
+        for (int i = 0; i < inserted.length; i++) {
+            inserted[i] = updateCounts[i] > 0 || unreportedIds.contains(ids[i]);
+
+            if (!inserted[i]) {
+                continue;
+            }
+
+            GameResult gameResult = gameResults.get(i);
+            gameResult.setId(ids[i]);
+
+            if (gameResult.getProcessedMessages() != null) {
+                for (ProcessedMessage message : gameResult.getProcessedMessages()) {
+                    processedMessageRows.add(new Object[]{gameResult.getId(), message.getDecodedAdId(),
+                            message.getDecodedMessage(), message.getTurn(), message.getReward(), message.isSuccess(),
+                            message.getFailureReason(), message.getProbability()});
+                }
+            }
+
+            if (gameResult.getPurchasedItems() != null) {
+                for (ShopItem item : gameResult.getPurchasedItems()) {
+                    shopItemRows.add(new Object[]{gameResult.getId(), item.getId(), item.getName(), item.getCost()});
+                }
+            }
+        }
+
+        if (!processedMessageRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PROCESSED_MESSAGE, processedMessageRows);
+        }
+
+        if (!shopItemRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SHOP_ITEM, shopItemRows);
+        }
+
+        return inserted;
+    }
+
+    // PRIVATE METHODS //
+
+    /**
+     * A driver may report a batched statement as {@link Statement#SUCCESS_NO_INFO} instead of its row count. Whether
+     * such a result was inserted or skipped as a duplicate is then told by its id being stored.
+     */
+    private Set<UUID> findUnreportedIds(int[] updateCounts, UUID[] ids) {
+        List<UUID> unreportedIds = new ArrayList<>();
+
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                unreportedIds.add(ids[i]);
+            }
+        }
+
+        if (unreportedIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(unreportedIds.size(), "?"));
+
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM game_result WHERE id IN (" + placeholders + ")",
+                UUID.class, unreportedIds.toArray()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.Game;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Service interface for instrumenting the game loop: how long each phase takes, how many turns a node plays per
+ * second, and what every finished game cost in turns, solves, purchases and API calls.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameMetricsService {
+    /**
+     * Starts collecting the statistics of a game that is about to be played.
+     *
+     * @param game The game.
+     */
+    void startGame(Game game);
+
+    /**
+     * Runs one phase of the game loop, timing it and emitting a JFR event for it
+     *
+     * @param gameId The ID of the game.
+     * @param phase  The phase being run.
+     * @param action The phase itself.
+     * @return whatever the phase returned
+     */
+    <T> T timePhase(String gameId, GamePhase phase, Supplier<T> action);
+
+    /**
+     * Runs one phase of the game loop, timing it and emitting a JFR event for it
+     *
+     * @param gameId The ID of the game.
+     * @param phase  The phase being run.
+     * @param action The phase itself.
+     */
+    void timePhase(String gameId, GamePhase phase, Runnable action);
+
+    /**
+     * Times one phase of a reactive game loop from subscription to completion, emitting a JFR event for it
+     *
+     * @param gameId The ID of the game.
+     * @param phase  The phase being run.
+     * @param action The phase itself.
+     * @return the phase, timed
+     */
+    <T> Mono<T> timePhase(String gameId, GamePhase phase, Mono<T> action);
+
+    /**
+     * Counts a completed loop of the game and the turns it advanced.
+     *
+     * @param game The game, after the loop.
+     */
+    void recordLoop(Game game);
+
+    /**
+     * Counts an attempt to solve a message.
+     *
+     * @param gameId  The ID of the game.
+     * @param success Whether the message was solved.
+     */
+    void recordSolve(String gameId, boolean success);
+
+    /**
+     * Counts a bought item.
+     *
+     * @param gameId The ID of the game.
+     */
+    void recordPurchase(String gameId);
+
+    /**
+     * Counts a call to the Mugloar API made for a game.
+     *
+     * @param gameId The ID of the game.
+     */
+    void recordApiCall(String gameId);
+
+    /**
+     * Records the statistics of a finished game and stops collecting them.
+     *
+     * @param game The finished game.
+     */
+    void finishGame(Game game);
+
+    /**
+     * The phases of the game loop.
+     */
+    enum GamePhase {
+        INVESTIGATION("investigation"),
+        MESSAGE_SOLVING("message_solving"),
+        SHOP("shop"),
+        FINALIZATION("finalization");
+
+        private final String tag;
+
+        GamePhase(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+}
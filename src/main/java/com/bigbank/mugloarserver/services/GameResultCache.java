@@ -0,0 +1,34 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.GameResult;
+
+/**
+ * Service interface for an in-process cache of finished GameResults. A finished result never changes, so a cached one
+ * is served without going to the database.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameResultCache {
+    /**
+     * To get a cached GameResult
+     *
+     * @param gameId The ID of the game.
+     * @return the cached GameResult, or null if it is not cached
+     */
+    GameResult get(String gameId);
+
+    /**
+     * Caches a GameResult whose processed messages and purchased items are loaded and detached from any session
+     *
+     * @param gameResult The GameResult to cache.
+     */
+    void put(GameResult gameResult);
+
+    /**
+     * Removes a GameResult from the cache, for when its stored row is deleted
+     *
+     * @param gameId The ID of the game.
+     */
+    void evict(String gameId);
+}
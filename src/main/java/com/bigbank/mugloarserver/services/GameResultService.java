@@ -2,8 +2,13 @@ package com.bigbank.mugloarserver.services;
 
 import com.bigbank.mugloarserver.exceptions.DuplicateGameResultException;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Service interface for managing GameResult entities.
@@ -34,4 +39,22 @@ public interface GameResultService {
      * @return A page of all GameResults.
      */
     Page<GameResult> getAllGameResults(Pageable pageable);
+
+    /**
+     * Retrieves a page of GameResult summaries, newest first. The next page starts after the timestamp and id of the
+     * last summary of this one.
+     *
+     * @param beforeTimestamp The timestamp of the last summary of the previous page, or null for the first page.
+     * @param beforeId        The id of the last summary of the previous page, or null for the first page.
+     * @param size            The maximum number of summaries.
+     * @return A window of summaries that tells whether older ones exist.
+     */
+    Window<GameResultSummary> getGameResultSummaries(LocalDateTime beforeTimestamp, UUID beforeId, int size);
+
+    /**
+     * Counts the stored GameResults. The count is cached for a while, so it may lag behind recently finished games.
+     *
+     * @return The number of stored GameResults.
+     */
+    long getGameResultCount();
 }
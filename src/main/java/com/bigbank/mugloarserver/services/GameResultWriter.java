@@ -0,0 +1,38 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.GameResult;
+
+/**
+ * Service interface for write-behind persistence of GameResults. Results are queued and written by a background
+ * writer in batches, so finishing a game never waits on the database.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameResultWriter {
+    /**
+     * Queues a GameResult to be written
+     *
+     * @param gameResult The GameResult to write.
+     * @return false if a result for the same game is already waiting to be written, true otherwise
+     */
+    boolean submit(GameResult gameResult);
+
+    /**
+     * To get a GameResult that is queued but not written yet
+     *
+     * @param gameId The ID of the game.
+     * @return the pending GameResult, or null if none is pending
+     */
+    GameResult findPending(String gameId);
+
+    /**
+     * Writes every queued GameResult right away, on the calling thread
+     */
+    void flush();
+
+    /**
+     * @return the number of GameResults queued or being written
+     */
+    int getPendingCount();
+}
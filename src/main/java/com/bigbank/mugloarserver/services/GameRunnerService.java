@@ -0,0 +1,53 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.exceptions.GameRejectedException;
+import com.bigbank.mugloarserver.models.Game;
+
+/**
+ * Service interface for running game loops with a bounded number of concurrent games.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameRunnerService {
+    /**
+     * Submits a game to be played. The game is started immediately if a slot is free, otherwise it is queued or
+     * rejected according to the configured overflow policy.
+     *
+     * @param game         The initialized game to play.
+     * @param onCompletion Callback invoked once the game loop has finished.
+     * @throws GameRejectedException if the game can neither be started nor queued.
+     */
+    void submit(Game game, Runnable onCompletion) throws GameRejectedException;
+
+    /**
+     * Cancels a running or queued game. A running game is stopped by interrupting its in-flight Mugloar call, then
+     * terminated with its partial result stored. A queued game is terminated without being played.
+     *
+     * @param gameId The ID of the game.
+     * @return true if the game was running or queued, false if it is unknown or already finished
+     */
+    boolean cancel(String gameId);
+
+    /**
+     * Checks whether a game submitted now would be rejected, so a caller can refuse it before starting it upstream.
+     * The answer may be outdated by the time the game is submitted.
+     *
+     * @return true if every slot is busy and the game could not be queued either
+     */
+    boolean isAtCapacity();
+
+    /**
+     * To get the number of games currently being played
+     *
+     * @return number of running games
+     */
+    int getRunningCount();
+
+    /**
+     * To get the number of games waiting for a free slot
+     *
+     * @return number of queued games
+     */
+    int getQueuedCount();
+}
@@ -0,0 +1,44 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.GameStateMessage;
+
+import java.util.List;
+
+/**
+ * Service interface for publishing game state updates to the /topic/game-status/{gameId} WebSocket topic. Updates are
+ * buffered per game and sent asynchronously in periodic frames, so publishing never blocks the game loop.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface GameStatePublisher {
+    /**
+     * Queues a game state update for the next frame of the game
+     *
+     * @param gameId  The ID of the game.
+     * @param state   The state the game entered.
+     * @param message A human-readable description of the state.
+     */
+    void publish(String gameId, String state, String message);
+
+    /**
+     * Sends the pending frames of all games right away
+     */
+    void flush();
+
+    /**
+     * To get the most recent updates already sent for a game, oldest first, for a client that subscribed late or
+     * reconnected
+     *
+     * @param gameId The ID of the game.
+     * @return The recent updates, ending with the game's current state, or an empty list if none are kept.
+     */
+    List<GameStateMessage> getSnapshot(String gameId);
+
+    /**
+     * Marks a game as finished, so its recent updates are only kept for the replay retention period
+     *
+     * @param gameId The ID of the game.
+     */
+    void complete(String gameId);
+}
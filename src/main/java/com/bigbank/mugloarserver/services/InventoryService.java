@@ -32,7 +32,21 @@ public interface InventoryService {
      * To get all items by GameID
      *
      * @param gameId The ID of the current game.
-     * @return List of ShopItem
+     * @return List of ShopItem, in the order they were bought
      */
     List<ShopItem> getAllByGameId(String gameId);
+
+    /**
+     * Marks the inventory of a game as still in use, so it is not evicted while the game is played
+     *
+     * @param gameId The ID of the current game.
+     */
+    void touch(String gameId);
+
+    /**
+     * Drops the inventory of a finished game
+     *
+     * @param gameId The ID of the finished game.
+     */
+    void releaseGame(String gameId);
 }
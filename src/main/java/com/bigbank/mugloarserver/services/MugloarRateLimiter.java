@@ -0,0 +1,25 @@
+package com.bigbank.mugloarserver.services;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Service interface for limiting the combined rate of calls to the Mugloar API made by all games of this node.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface MugloarRateLimiter {
+    /**
+     * Waits for the permits of one call. Games waiting at the same time are served in turns.
+     *
+     * @param gameId   The ID of the game making the call, or null for a call outside any game.
+     * @param endpoint The endpoint called, which decides how many permits the call takes.
+     * @return a Mono completing once the call may be made
+     */
+    Mono<Void> acquire(String gameId, String endpoint);
+
+    /**
+     * @return the number of calls waiting for permits
+     */
+    int getWaitingCount();
+}
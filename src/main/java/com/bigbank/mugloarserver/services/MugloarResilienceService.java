@@ -0,0 +1,51 @@
+package com.bigbank.mugloarserver.services;
+
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Predicate;
+
+/**
+ * Service interface for guarding calls to the Mugloar API with retries and a circuit breaker shared by all games.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface MugloarResilienceService {
+    /**
+     * Guards a call to the Mugloar API. The call waits while the circuit is open, and is retried with backoff if its
+     * endpoint has a retry policy and it failed transiently.
+     *
+     * @param endpoint    The endpoint called.
+     * @param method      The HTTP method of the call, only idempotent methods are retried.
+     * @param call        The call, subscribed again for every attempt.
+     * @param isTransient Tells failures of the upstream, which count against the circuit and may be retried, from
+     *                    answers that are final.
+     * @return the guarded call
+     */
+    <T> Mono<T> guard(String endpoint, HttpMethod method, Mono<T> call, Predicate<Throwable> isTransient);
+
+    /**
+     * @return the current state of the circuit breaker
+     */
+    CircuitState getCircuitState();
+
+    /**
+     * States of the circuit breaker.
+     */
+    enum CircuitState {
+        CLOSED("closed"),
+        OPEN("open"),
+        HALF_OPEN("half_open");
+
+        private final String tag;
+
+        CircuitState(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of MugloarService. Every call returns a cold Mono that performs the HTTP exchange on
+ * subscription and signals GameOverException or MugloarException as error signals.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface ReactiveMugloarService {
+    /**
+     * Starts a new game
+     *
+     * @return the started Game state
+     */
+    Mono<Game> startGame();
+
+    /**
+     * Runs an investigation about the player's reputation.
+     *
+     * @param gameId the unique ID of the current game
+     * @return the Investigation result
+     */
+    Mono<Investigation> investigate(String gameId);
+
+    /**
+     * Retrieves all messages (tasks) available for the given game.
+     *
+     * @param gameId the unique ID of the game
+     * @return a list of Messages available
+     */
+    Mono<List<Message>> getMessages(String gameId);
+
+    /**
+     * Attempts to solve a specific message (task).
+     *
+     * @param gameId the unique ID of the game
+     * @param adId   the ID of the message to solve
+     * @return the result of the solve attempt
+     */
+    Mono<MessageSolveResponse> solveMessage(String gameId, String adId);
+
+    /**
+     * Retrieves a list of items available in the shop for the current game.
+     *
+     * @param gameId the unique ID of the game
+     * @return a list of ShopItems available for purchase
+     */
+    Mono<List<ShopItem>> getShopItems(String gameId);
+
+    /**
+     * Attempts to buy a specific item from the shop.
+     *
+     * @param gameId the unique ID of the game
+     * @param itemId the ID of the item to purchase
+     * @return the result of the purchase attempt
+     */
+    Mono<ShopPurchaseResponse> buyItem(String gameId, String itemId);
+}
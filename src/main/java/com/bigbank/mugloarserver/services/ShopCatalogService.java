@@ -0,0 +1,48 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.ShopItem;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for caching the shop catalog of each game, so the shop list is not fetched again after every
+ * solved message.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface ShopCatalogService {
+    /**
+     * To get the cached shop items of a game, if the cached catalog is still fresh for the game's current turn
+     *
+     * @param game The current game state.
+     * @return The cached shop items, or empty if the catalog has to be fetched again.
+     */
+    Optional<List<ShopItem>> getCachedItems(Game game);
+
+    /**
+     * To cache a freshly fetched shop catalog
+     *
+     * @param game      The current game state.
+     * @param shopItems The shop items returned by the API.
+     */
+    void cacheItems(Game game, List<ShopItem> shopItems);
+
+    /**
+     * Checks whether the game cannot afford even the cheapest item of its fresh cached catalog, in which case the shop
+     * phase can be skipped without calling the API.
+     *
+     * @param game The current game state.
+     * @return true if the game's gold is below the cheapest cached item, false otherwise or if nothing is cached.
+     */
+    boolean isBelowCheapestItem(Game game);
+
+    /**
+     * Drops the cached catalog of a game, e.g. after a purchase failed because the catalog was out of date.
+     *
+     * @param gameId The ID of the game.
+     */
+    void invalidate(String gameId);
+}
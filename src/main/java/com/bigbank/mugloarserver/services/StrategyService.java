@@ -3,7 +3,9 @@ package com.bigbank.mugloarserver.services;
 import com.bigbank.mugloarserver.models.Game;
 import com.bigbank.mugloarserver.models.Investigation;
 import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.MessageBoard;
 import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.models.StrategyContext;
 
 import java.util.List;
 
@@ -15,12 +17,37 @@ import java.util.List;
  * @created 07.12.2024
  */
 public interface StrategyService {
+    /**
+     * Creates a fresh strategy context for a game that is about to be played.
+     *
+     * @param gameId The ID of the game.
+     * @return The new StrategyContext.
+     */
+    StrategyContext createContext(String gameId);
+
+    /**
+     * Looks up the strategy context of a game. A game without one, not started or already released, gets a transient
+     * context that is not kept.
+     *
+     * @param gameId The ID of the game.
+     * @return The StrategyContext of the game.
+     */
+    StrategyContext getContext(String gameId);
+
+    /**
+     * Releases the strategy context of a finished game.
+     *
+     * @param gameId The ID of the game.
+     */
+    void releaseContext(String gameId);
+
     /**
      * Processes the investigation results to adjust the game strategy.
      *
+     * @param gameId        The ID of the game.
      * @param investigation The result of the investigation.
      */
-    void processInvestigation(Investigation investigation);
+    void processInvestigation(String gameId, Investigation investigation);
 
     /**
      * Chooses the best message to solve based on the current strategy.
@@ -31,6 +58,16 @@ public interface StrategyService {
      */
     Message chooseMessage(List<Message> messages, Game game);
 
+    /**
+     * Scores a message board once, so the best messages can be picked one after another without re-scoring the
+     * whole board for every pick.
+     *
+     * @param messages The list of available messages.
+     * @param game     The current game state.
+     * @return The MessageBoard of the unsolved messages.
+     */
+    MessageBoard createMessageBoard(List<Message> messages, Game game);
+
     /**
      * Decides which shop items to buy based on the current game state.
      *
@@ -43,14 +80,16 @@ public interface StrategyService {
     /**
      * Marks a message as solved to avoid reprocessing.
      *
-     * @param adId The identifier of the solved message.
+     * @param gameId The ID of the game.
+     * @param adId   The identifier of the solved message.
      */
-    void markMessageAsSolved(String adId);
+    void markMessageAsSolved(String gameId, String adId);
 
     /**
      * Marks a message as failed.
      *
-     * @param adId The identifier of the failed message.
+     * @param gameId The ID of the game.
+     * @param adId   The identifier of the failed message.
      */
-    void recordFailure(String adId);
+    void recordFailure(String gameId, String adId);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.bigbank.mugloarserver.services;
+
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+
+/**
+ * Service interface for the success rate of each message probability label, learned from stored message outcomes.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface SuccessRateService {
+    /**
+     * To get the current success rate of a probability label
+     *
+     * @param probabilityLabel The probability label of a message.
+     * @return The success rate between 0 and 1.
+     */
+    double getSuccessRate(ProbabilityLabel probabilityLabel);
+
+    /**
+     * To get the version of the success rate table, which changes on every refresh
+     *
+     * @return The table version.
+     */
+    long getVersion();
+
+    /**
+     * Rebuilds the success rate table from the stored ProcessedMessage outcomes.
+     */
+    void refresh();
+}
@@ -0,0 +1,225 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.GameMetricsService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of GameMetricsService. Every phase is timed by phase and outcome, and spanned by a GamePhaseEvent
+ * for JFR. Turns and loops are counted node-wide as they are played, so their rate is the node's throughput. The
+ * counts of a single game are kept aside until it finishes and only then recorded as distributions, so no meter is
+ * tagged by game.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class GameMetricsServiceImpl implements GameMetricsService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameMetricsServiceImpl.class);
+
+    private final Map<String, GameStats> gameStats = new ConcurrentHashMap<>();
+    private final Meter.MeterProvider<Timer> phaseTimers;
+    private final Counter turns;
+    private final Counter loops;
+    private final DistributionSummary turnsPerGame;
+    private final DistributionSummary solvedPerGame;
+    private final DistributionSummary failedPerGame;
+    private final DistributionSummary purchasesPerGame;
+    private final DistributionSummary apiCallsPerGame;
+    private final DistributionSummary apiCallsPer100Points;
+
+    public GameMetricsServiceImpl(MeterRegistry meterRegistry) {
+        this.phaseTimers = Timer.builder("mugloar.game.phases")
+                .description("Phases of the game loop by phase and outcome")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.turns = Counter.builder("mugloar.game.turns")
+                .description("Game turns played")
+                .register(meterRegistry);
+        this.loops = Counter.builder("mugloar.game.loops")
+                .description("Game loops completed")
+                .register(meterRegistry);
+        this.turnsPerGame = perGameSummary(meterRegistry, "turns", "Turns played by a finished game");
+        this.solvedPerGame = DistributionSummary.builder("mugloar.games.finished.solves")
+                .description("Messages a finished game attempted, by result")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedPerGame = DistributionSummary.builder("mugloar.games.finished.solves")
+                .description("Messages a finished game attempted, by result")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.purchasesPerGame = perGameSummary(meterRegistry, "purchases", "Items bought by a finished game");
+        this.apiCallsPerGame = perGameSummary(meterRegistry, "api-calls", "Mugloar API calls made by a finished game");
+        this.apiCallsPer100Points = perGameSummary(meterRegistry, "api-calls-per-100-points",
+                "Mugloar API calls a finished game made per 100 points scored");
+    }
+
+    @Override
+    public void startGame(Game game) {
+        gameStats.put(String.valueOf(game.getGameId()), new GameStats(game.getTurn()));
+    }
+
+    @Override
+    public <T> T timePhase(String gameId, GamePhase phase, Supplier<T> action) {
+        GamePhaseEvent event = new GamePhaseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = "success";
+
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            recordPhase(event, start, gameId, phase, outcome);
+        }
+    }
+
+    @Override
+    public void timePhase(String gameId, GamePhase phase, Runnable action) {
+        timePhase(gameId, phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public <T> Mono<T> timePhase(String gameId, GamePhase phase, Mono<T> action) {
+        return Mono.defer(() -> {
+            GamePhaseEvent event = new GamePhaseEvent();
+            event.begin();
+            long start = System.nanoTime();
+
+            return action
+                    .doOnSuccess(value -> recordPhase(event, start, gameId, phase, "success"))
+                    .doOnError(e -> recordPhase(event, start, gameId, phase, outcomeOf(e)));
+        });
+    }
+
+    @Override
+    public void recordLoop(Game game) {
+        loops.increment();
+        countTurns(game);
+    }
+
+    @Override
+    public void recordSolve(String gameId, boolean success) {
+        GameStats stats = gameStats.get(String.valueOf(gameId));
+
+        if (stats != null) {
+            (success ? stats.solved : stats.failed).incrementAndGet();
+        }
+    }
+
+    @Override
+    public void recordPurchase(String gameId) {
+        GameStats stats = gameStats.get(String.valueOf(gameId));
+
+        if (stats != null) {
+            stats.purchases.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void recordApiCall(String gameId) {
+        GameStats stats = gameStats.get(String.valueOf(gameId));
+
+        if (stats != null) {
+            stats.apiCalls.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void finishGame(Game game) {
+        countTurns(game);
+        GameStats stats = gameStats.remove(String.valueOf(game.getGameId()));
+
+        if (stats == null) {
+            return;
+        }
+
+        turnsPerGame.record(game.getTurn());
+        solvedPerGame.record(stats.solved.get());
+        failedPerGame.record(stats.failed.get());
+        purchasesPerGame.record(stats.purchases.get());
+        apiCallsPerGame.record(stats.apiCalls.get());
+
+        // A game without points has no meaningful cost per point
+        if (game.getScore() > 0) {
+            apiCallsPer100Points.record(stats.apiCalls.get() * 100.0 / game.getScore());
+        }
+
+        LOGGER.debug("Recorded statistics of GameID={}: Turns={} | Solved={} | Failed={} | Purchases={} | " +
+                        "API calls={}", game.getGameId(), game.getTurn(), stats.solved.get(), stats.failed.get(),
+                stats.purchases.get(), stats.apiCalls.get());
+    }
+
+    // PRIVATE METHODS //
+    private void recordPhase(GamePhaseEvent event, long startNanos, String gameId, GamePhase phase,
+                             String outcome) {
+        phaseTimers.withTags("phase", phase.getTag(), "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (event.shouldCommit()) {
+            event.gameId = gameId;
+            event.phase = phase.getTag();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static String outcomeOf(Throwable e) {
+        return e instanceof GameOverException ? "game_over" : "error";
+    }
+
+    private void countTurns(Game game) {
+        GameStats stats = gameStats.get(String.valueOf(game.getGameId()));
+
+        if (stats == null) {
+            return;
+        }
+
+        int previousTurn = stats.lastTurn.getAndSet(game.getTurn());
+
+        if (game.getTurn() > previousTurn) {
+            turns.increment(game.getTurn() - previousTurn);
+        }
+    }
+
+    private DistributionSummary perGameSummary(MeterRegistry meterRegistry, String name, String description) {
+        return DistributionSummary.builder("mugloar.games.finished." + name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Counts of one game while it is played.
+     */
+    private static final class GameStats {
+        private final AtomicInteger lastTurn;
+        private final AtomicInteger solved = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger purchases = new AtomicInteger();
+        private final AtomicInteger apiCalls = new AtomicInteger();
+
+        GameStats(int turn) {
+            this.lastTurn = new AtomicInteger(turn);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one phase of a game loop, so a recording shows game phases next to GC pauses and pinned virtual
+ * threads of the same period.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Name("com.bigbank.mugloar.GamePhase")
+@Label("Game Phase")
+@Category({"Mugloar", "Game Loop"})
+@Description("One phase of a game loop")
+@StackTrace(false)
+public class GamePhaseEvent extends Event {
+    @Label("Game ID")
+    String gameId;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Outcome")
+    String outcome;
+}
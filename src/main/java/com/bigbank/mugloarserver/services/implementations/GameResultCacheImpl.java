@@ -0,0 +1,73 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.services.GameResultCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Implementation of GameResultCache backed by Caffeine. The cache is bounded by weight, one unit per result plus one
+ * per processed message and purchased item, so a few long games cannot crowd out memory meant for many short ones.
+ * Hits, misses and evictions are published as the cache.* meters of the gameResults cache.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class GameResultCacheImpl implements GameResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameResultCacheImpl.class);
+
+    private final Cache<String, GameResult> cache;
+
+    public GameResultCacheImpl(MeterRegistry meterRegistry,
+                               @Value("${mugloar.result-cache.max-weight:200000}") long maxWeight,
+                               @Value("${mugloar.result-cache.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(GameResultCacheImpl::weigh)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gameResults");
+    }
+
+    @Override
+    public GameResult get(String gameId) {
+        return gameId == null ? null : cache.getIfPresent(gameId);
+    }
+
+    @Override
+    public void put(GameResult gameResult) {
+        if (gameResult.getGameId() == null) {
+            return;
+        }
+
+        cache.put(gameResult.getGameId(), gameResult);
+        LOGGER.debug("Cached GameResult for GameID={}.", gameResult.getGameId());
+    }
+
+    @Override
+    public void evict(String gameId) {
+        if (gameId != null) {
+            cache.invalidate(gameId);
+        }
+    }
+
+    // PRIVATE METHODS //
+    private static int weigh(String gameId, GameResult gameResult) {
+        int processedMessages = gameResult.getProcessedMessages() == null ? 0 :
+                gameResult.getProcessedMessages().size();
+        int purchasedItems = gameResult.getPurchasedItems() == null ? 0 : gameResult.getPurchasedItems().size();
+
+        return 1 + processedMessages + purchasedItems;
+    }
+}
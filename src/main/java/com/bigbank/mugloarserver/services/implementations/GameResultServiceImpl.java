@@ -2,15 +2,27 @@ package com.bigbank.mugloarserver.services.implementations;
 
 import com.bigbank.mugloarserver.exceptions.DuplicateGameResultException;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
 import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.GameResultCache;
 import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameResultWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * Implementation of GameResultService
@@ -21,11 +33,25 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class GameResultServiceImpl implements GameResultService {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameResultServiceImpl.class);
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
 
     private final GameResultRepository gameResultRepository;
+    private final GameResultWriter gameResultWriter;
+    private final GameResultCache gameResultCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long countCacheTtlMillis;
+
+    private volatile CachedCount cachedCount;
 
-    public GameResultServiceImpl(GameResultRepository gameResultRepository) {
+    public GameResultServiceImpl(GameResultRepository gameResultRepository, GameResultWriter gameResultWriter,
+                                 GameResultCache gameResultCache, PlatformTransactionManager transactionManager,
+                                 @Value("${mugloar.history.count-cache-ttl:30s}") Duration countCacheTtl) {
         this.gameResultRepository = gameResultRepository;
+        this.gameResultWriter = gameResultWriter;
+        this.gameResultCache = gameResultCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.countCacheTtlMillis = countCacheTtl.toMillis();
     }
 
     @Override
@@ -45,14 +71,33 @@ public class GameResultServiceImpl implements GameResultService {
         }
     }
 
+    /**
+     * Pending and cached results are served without a transaction, so they never take a database connection. A result
+     * loaded from the database is cached as a detached copy.
+     */
     @Override
-    @Transactional(readOnly = true)
     public GameResult findByGameId(String gameId) {
+        // A result still waiting in the write-behind queue is not in the database yet
+        GameResult pendingResult = gameResultWriter.findPending(gameId);
+
+        if (pendingResult != null) {
+            LOGGER.info("Found pending GameResult for GameID={}.", gameId);
+            return pendingResult;
+        }
+
+        GameResult cachedResult = gameResultCache.get(gameId);
+
+        if (cachedResult != null) {
+            LOGGER.debug("Found cached GameResult for GameID={}.", gameId);
+            return cachedResult;
+        }
+
         try {
-            GameResult result = gameResultRepository.findByGameId(gameId);
+            GameResult result = readOnlyTransaction.execute(status -> detach(gameResultRepository.findByGameId(gameId)));
 
             if (result != null) {
                 LOGGER.info("Found GameResult for GameID={}.", gameId);
+                gameResultCache.put(result);
             } else {
                 LOGGER.warn("No GameResult found for GameID={}.", gameId);
             }
@@ -75,4 +120,60 @@ public class GameResultServiceImpl implements GameResultService {
             throw new RuntimeException("Failed to retrieve all GameResults.", e);
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<GameResultSummary> getGameResultSummaries(LocalDateTime beforeTimestamp, UUID beforeId, int size) {
+        int limit = Math.clamp(size, 1, MAX_SUMMARY_PAGE_SIZE);
+
+        try {
+            // One extra row tells whether an older page exists without counting
+            List<GameResultSummary> summaries = beforeTimestamp == null || beforeId == null
+                    ? gameResultRepository.findLatestSummaries(Limit.of(limit + 1))
+                    : gameResultRepository.findSummariesBefore(beforeTimestamp, beforeId, Limit.of(limit + 1));
+            boolean hasNext = summaries.size() > limit;
+            List<GameResultSummary> content = hasNext ? summaries.subList(0, limit) : summaries;
+
+            LOGGER.info("Retrieved {} GameResult summaries.", content.size());
+            return Window.from(content, index -> ScrollPosition.forward(Map.of(
+                    "timestamp", content.get(index).getTimestamp(), "id", content.get(index).getId())), hasNext);
+        } catch (Exception e) {
+            LOGGER.error("An error occurred while retrieving GameResult summaries: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to retrieve GameResult summaries.", e);
+        }
+    }
+
+    @Override
+    public long getGameResultCount() {
+        CachedCount count = cachedCount;
+        long now = System.currentTimeMillis();
+
+        if (count == null || now - count.countedAt() >= countCacheTtlMillis) {
+            // Concurrent callers may both count on expiry, which is cheaper than making them wait for each other
+            count = new CachedCount(gameResultRepository.count(), now);
+            cachedCount = count;
+        }
+
+        return count.value();
+    }
+
+    // PRIVATE METHODS //
+
+    /**
+     * Copies a managed GameResult with its collections loaded into plain lists, so it can be used after the session
+     * is closed.
+     */
+    private static GameResult detach(GameResult gameResult) {
+        if (gameResult == null) {
+            return null;
+        }
+
+        return new GameResult(gameResult.getId(), gameResult.getGameId(), gameResult.getScore(),
+                gameResult.getHighScore(), gameResult.getLives(), gameResult.getGold(), gameResult.getLevel(),
+                gameResult.getTurn(), gameResult.isAchievedGoal(), gameResult.getTimestamp(),
+                new ArrayList<>(gameResult.getProcessedMessages()), new ArrayList<>(gameResult.getPurchasedItems()));
+    }
+
+    private record CachedCount(long value, long countedAt) {
+    }
 }
@@ -0,0 +1,300 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.GameResultCache;
+import com.bigbank.mugloarserver.services.GameResultWriter;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of GameResultWriter. Game threads only put the result on a bounded queue; a single writer thread
+ * drains whatever has piled up, up to the batch size, and inserts it in one transaction as one JDBC batch per table.
+ * Results of games already stored are skipped by the insert itself. A batch that fails is written again one result at
+ * a time, so one bad result does not drop the others. When the queue is full the result is written on the submitting
+ * thread instead.
+ * <p>
+ * Results that cannot be written, also when the database is gone during shutdown, are appended as JSON lines to the
+ * spool file, which is read back and queued again on the next start.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class GameResultWriterImpl implements GameResultWriter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameResultWriterImpl.class);
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final GameResultRepository gameResultRepository;
+    private final GameResultCache gameResultCache;
+    private final TransactionTemplate transactionTemplate;
+    private final GameStatePublisher gameStatePublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Path spoolFile;
+    private final BlockingQueue<GameResult> queue;
+    private final Map<String, GameResult> pending = new ConcurrentHashMap<>();
+    private final Counter savedResults;
+    private final Counter duplicateResults;
+    private final Counter spooledResults;
+    private final Timer batchTimer;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    public GameResultWriterImpl(GameResultRepository gameResultRepository, GameResultCache gameResultCache,
+                                PlatformTransactionManager transactionManager, GameStatePublisher gameStatePublisher,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${mugloar.persistence.queue-capacity:10000}") int queueCapacity,
+                                @Value("${mugloar.persistence.batch-size:100}") int batchSize,
+                                @Value("${mugloar.persistence.shutdown-timeout:10s}") Duration shutdownTimeout,
+                                @Value("${mugloar.persistence.spool-file:data/game-results-spool.jsonl}")
+                                String spoolFile) {
+        this.gameResultRepository = gameResultRepository;
+        this.gameResultCache = gameResultCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gameStatePublisher = gameStatePublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = Math.max(batchSize, 1);
+        this.shutdownTimeout = shutdownTimeout;
+        this.spoolFile = Path.of(spoolFile);
+        this.queue = new LinkedBlockingQueue<>(Math.max(queueCapacity, 1));
+
+        this.savedResults = resultCounter(meterRegistry, "saved");
+        this.duplicateResults = resultCounter(meterRegistry, "duplicate");
+        this.spooledResults = resultCounter(meterRegistry, "spooled");
+        this.batchTimer = Timer.builder("mugloar.persistence.batches")
+                .description("Transactions writing a batch of GameResults")
+                .register(meterRegistry);
+        Gauge.builder("mugloar.persistence.pending", pending, Map::size)
+                .description("GameResults queued or being written")
+                .register(meterRegistry);
+
+        recoverSpool();
+        this.writerThread = Thread.ofPlatform().name("game-result-writer").daemon().start(this::drainQueue);
+    }
+
+    @Override
+    public boolean submit(GameResult gameResult) {
+        String gameId = String.valueOf(gameResult.getGameId());
+
+        if (pending.putIfAbsent(gameId, gameResult) != null) {
+            LOGGER.warn("GameResult for GameID={} is already waiting to be written.", gameId);
+            return false;
+        }
+
+        if (!running || !queue.offer(gameResult)) {
+            LOGGER.warn("GameResult writer is full or stopped. Writing GameID={} on the calling thread.", gameId);
+            write(List.of(gameResult));
+        }
+
+        return true;
+    }
+
+    @Override
+    public GameResult findPending(String gameId) {
+        return pending.get(String.valueOf(gameId));
+    }
+
+    @Override
+    public void flush() {
+        List<GameResult> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Lets the writer thread finish its batch, then writes what is left on the queue. Whatever cannot be written any
+     * more ends up in the spool file.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+
+        try {
+            if (!writerThread.join(shutdownTimeout)) {
+                LOGGER.warn("GameResult writer did not stop within {}.", shutdownTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+        LOGGER.info("GameResult writer stopped. Pending results: {}.", pending.size());
+    }
+
+    // PRIVATE METHODS //
+    private void drainQueue() {
+        List<GameResult> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                GameResult first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                LOGGER.error("Unexpected error in the GameResult writer: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<GameResult> batch) {
+        try {
+            boolean[] inserted = insert(batch);
+
+            for (int i = 0; i < inserted.length; i++) {
+                if (inserted[i]) {
+                    // Cached before it leaves the pending results, so lookups never fall through to the database
+                    gameResultCache.put(batch.get(i));
+                    finish(batch.get(i), savedResults, "game_result_saved", "Game result saved successfully.");
+                } else {
+                    LOGGER.warn("GameResult for GameID={} already exists. Skipping save.", batch.get(i).getGameId());
+                    finish(batch.get(i), duplicateResults, "duplicate_game_result", "Duplicate game result detected.");
+                }
+            }
+
+            LOGGER.debug("Wrote a batch of {} GameResults.", batch.size());
+        } catch (Exception e) {
+            if (batch.size() > 1) {
+                LOGGER.warn("Failed to write a batch of {} GameResults: {}. Writing them one by one.", batch.size(),
+                        e.getMessage());
+                batch.forEach(gameResult -> write(List.of(gameResult)));
+            } else {
+                handleFailure(batch.getFirst(), e);
+            }
+        }
+    }
+
+    private boolean[] insert(List<GameResult> batch) {
+        // The batch list is reused for the next batch, so the repository gets its own
+        List<GameResult> gameResults = List.copyOf(batch);
+
+        return batchTimer.record(() -> transactionTemplate.execute(status ->
+                gameResultRepository.insertAllIfAbsent(gameResults)));
+    }
+
+    private void handleFailure(GameResult gameResult, Exception e) {
+        if (e instanceof DataIntegrityViolationException) {
+            LOGGER.error("Attempted to save duplicate GameResult for GameID={}.", gameResult.getGameId());
+            finish(gameResult, duplicateResults, "duplicate_game_result", "Duplicate game result detected.");
+            return;
+        }
+
+        LOGGER.error("Failed to save GameResult for GameID={}: {}. Spooling it to {}.", gameResult.getGameId(),
+                e.getMessage(), spoolFile, e);
+        spool(gameResult);
+        finish(gameResult, spooledResults, "game_result_save_failed", "Failed to save game result.");
+    }
+
+    private void finish(GameResult gameResult, Counter counter, String state, String message) {
+        pending.remove(String.valueOf(gameResult.getGameId()), gameResult);
+        counter.increment();
+        gameStatePublisher.publish(gameResult.getGameId(), state, message);
+    }
+
+    private synchronized void spool(GameResult gameResult) {
+        try {
+            Path parent = spoolFile.toAbsolutePath().getParent();
+
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Files.writeString(spoolFile, objectMapper.writeValueAsString(gameResult) + System.lineSeparator(),
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.error("Failed to spool GameResult for GameID={}. It is lost: {}", gameResult.getGameId(),
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The spool file is removed before its results are queued, so results failing again are spooled anew instead of
+     * twice.
+     */
+    private void recoverSpool() {
+        if (!Files.exists(spoolFile)) {
+            return;
+        }
+
+        List<String> lines;
+
+        try {
+            lines = Files.readAllLines(spoolFile, StandardCharsets.UTF_8);
+            Files.delete(spoolFile);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read spooled GameResults from {}: {}", spoolFile, e.getMessage(), e);
+            return;
+        }
+
+        int recovered = 0;
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                submit(objectMapper.readValue(line, GameResult.class));
+                recovered++;
+            } catch (IOException e) {
+                LOGGER.error("Skipping unreadable spooled GameResult: {}", line, e);
+            }
+        }
+
+        LOGGER.info("Queued {} GameResults spooled to {}.", recovered, spoolFile);
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mugloar.persistence.results")
+                .description("GameResults by how their write ended")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,303 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.exceptions.GameRejectedException;
+import com.bigbank.mugloarserver.facades.GameFacade;
+import com.bigbank.mugloarserver.facades.ReactiveGameFacade;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.GameRunnerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of GameRunnerService, capped at a configurable number of concurrent games. The BLOCKING engine plays
+ * every game on its own virtual thread through GameFacade, the REACTIVE engine subscribes to ReactiveGameFacade's
+ * non-blocking game loop.
+ * <p>
+ * A running game is cancelled by flagging it in GameFacade and interrupting its virtual thread, or disposing its
+ * subscription, which aborts the Mugloar call in flight. Once its game loop has started finalizing, a game can no
+ * longer be cancelled.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class GameRunnerServiceImpl implements GameRunnerService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameRunnerServiceImpl.class);
+
+    private final GameFacade gameFacade;
+    private final ReactiveGameFacade reactiveGameFacade;
+    private final GameEngine engine;
+    private final int maxConcurrentGames;
+    private final int maxQueuedGames;
+    private final OverflowPolicy overflowPolicy;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-", 0)
+            .factory());
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<QueuedGame> queuedGames = new ArrayDeque<>();
+    private final Map<String, RunningGame> runningGameHandles = new ConcurrentHashMap<>();
+    private int runningGames;
+
+    public GameRunnerServiceImpl(GameFacade gameFacade, ReactiveGameFacade reactiveGameFacade,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${mugloar.runner.engine:BLOCKING}") GameEngine engine,
+                                 @Value("${mugloar.runner.max-concurrent-games:200}") int maxConcurrentGames,
+                                 @Value("${mugloar.runner.max-queued-games:1000}") int maxQueuedGames,
+                                 @Value("${mugloar.runner.overflow-policy:QUEUE}") OverflowPolicy overflowPolicy) {
+        this.gameFacade = gameFacade;
+        this.reactiveGameFacade = reactiveGameFacade;
+        this.engine = engine;
+        this.maxConcurrentGames = maxConcurrentGames;
+        this.maxQueuedGames = maxQueuedGames;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("mugloar.games.running", this, GameRunnerServiceImpl::getRunningCount)
+                .description("Games currently being played")
+                .register(meterRegistry);
+        Gauge.builder("mugloar.games.queued", this, GameRunnerServiceImpl::getQueuedCount)
+                .description("Games waiting for a free runner slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void submit(Game game, Runnable onCompletion) throws GameRejectedException {
+        QueuedGame queuedGame = new QueuedGame(game, onCompletion);
+
+        lock.lock();
+        try {
+            if (runningGames < maxConcurrentGames) {
+                start(queuedGame);
+                LOGGER.debug("Started GameID={}. Running games: {}", game.getGameId(), runningGames);
+            } else if (overflowPolicy == OverflowPolicy.QUEUE && queuedGames.size() < maxQueuedGames) {
+                queuedGames.addLast(queuedGame);
+                LOGGER.info("Runner at capacity. Queued GameID={}. Queued games: {}", game.getGameId(),
+                        queuedGames.size());
+            } else {
+                LOGGER.warn("Runner at capacity. Rejected GameID={} (policy={}).", game.getGameId(), overflowPolicy);
+                throw new GameRejectedException("error.game.rejected");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean cancel(String gameId) {
+        QueuedGame cancelledGame = null;
+
+        lock.lock();
+        try {
+            RunningGame runningGame = runningGameHandles.get(gameId);
+
+            if (runningGame != null) {
+                if (!gameFacade.cancelGame(gameId, runningGame::interrupt)) {
+                    LOGGER.info("GameID={} is already finishing. Not cancelling it.", gameId);
+                    return false;
+                }
+
+                LOGGER.info("Cancelling running GameID={}.", gameId);
+                return true;
+            }
+
+            for (Iterator<QueuedGame> iterator = queuedGames.iterator(); iterator.hasNext(); ) {
+                QueuedGame queuedGame = iterator.next();
+
+                if (gameId.equals(String.valueOf(queuedGame.game().getGameId()))) {
+                    iterator.remove();
+                    cancelledGame = queuedGame;
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (cancelledGame == null) {
+            return false;
+        }
+
+        LOGGER.info("Cancelled queued GameID={}.", gameId);
+
+        try {
+            gameFacade.terminateGame(cancelledGame.game(), new ArrayList<>(), "Game cancelled before it started.");
+        } finally {
+            gameFacade.releaseGame(gameId);
+            cancelledGame.onCompletion().run();
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean isAtCapacity() {
+        lock.lock();
+        try {
+            return runningGames >= maxConcurrentGames
+                    && (overflowPolicy != OverflowPolicy.QUEUE || queuedGames.size() >= maxQueuedGames);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getRunningCount() {
+        lock.lock();
+        try {
+            return runningGames;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queuedGames.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        LOGGER.info("Shutting down game runner. Running games: {}, queued games: {}", getRunningCount(),
+                getQueuedCount());
+        executor.shutdownNow();
+    }
+
+    // PRIVATE METHODS //
+    private void start(QueuedGame queuedGame) {
+        String gameId = String.valueOf(queuedGame.game().getGameId());
+        RunningGame runningGame = new RunningGame();
+
+        if (engine == GameEngine.REACTIVE) {
+            runningGames++;
+            runningGameHandles.put(gameId, runningGame);
+            runningGame.subscription = reactiveGameFacade.playGame(queuedGame.game())
+                    .doFinally(signal -> finish(queuedGame))
+                    .subscribe(null, e -> LOGGER.error("Reactive game loop for GameID={} failed: {}",
+                            queuedGame.game().getGameId(), e.getMessage(), e));
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                runningGame.thread = Thread.currentThread();
+
+                try {
+                    gameFacade.playGame(queuedGame.game());
+                } finally {
+                    runningGame.thread = null;
+                    finish(queuedGame);
+                }
+            });
+            runningGames++;
+            runningGameHandles.put(gameId, runningGame);
+        } catch (RejectedExecutionException e) {
+            throw new GameRejectedException("error.game.rejected");
+        }
+    }
+
+    private void finish(QueuedGame queuedGame) {
+        try {
+            queuedGame.onCompletion().run();
+        } finally {
+            onGameFinished(queuedGame);
+        }
+    }
+
+    private void onGameFinished(QueuedGame queuedGame) {
+        String gameId = String.valueOf(queuedGame.game().getGameId());
+        List<QueuedGame> droppedGames = new ArrayList<>();
+
+        lock.lock();
+        try {
+            runningGames--;
+            runningGameHandles.remove(gameId);
+            // Released only once the handle is gone, so a late cancel cannot flag a game nobody plays any more
+            gameFacade.releaseGame(gameId);
+            QueuedGame next = queuedGames.pollFirst();
+
+            if (next != null) {
+                try {
+                    start(next);
+                } catch (GameRejectedException e) {
+                    droppedGames.add(next);
+                    droppedGames.addAll(queuedGames);
+                    queuedGames.clear();
+                    LOGGER.warn("Game runner is shut down. Dropping {} queued games.", droppedGames.size());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Outside the lock, like the completion of any finished game
+        for (QueuedGame droppedGame : droppedGames) {
+            try {
+                droppedGame.onCompletion().run();
+            } catch (Exception e) {
+                LOGGER.error("Completion of dropped GameID={} failed: {}", droppedGame.game().getGameId(),
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Which game loop implementation plays the games.
+     */
+    public enum GameEngine {
+        BLOCKING,
+        REACTIVE
+    }
+
+    /**
+     * What to do with a new game when all runner slots are busy.
+     */
+    public enum OverflowPolicy {
+        QUEUE,
+        REJECT
+    }
+
+    private record QueuedGame(Game game, Runnable onCompletion) {
+    }
+
+    /**
+     * What to interrupt to stop a running game: its virtual thread, or its subscription to the reactive game loop.
+     */
+    private static final class RunningGame {
+        private volatile Thread thread;
+        private volatile Disposable subscription;
+
+        void interrupt() {
+            Thread runningThread = thread;
+            Disposable runningSubscription = subscription;
+
+            if (runningThread != null) {
+                runningThread.interrupt();
+            }
+
+            if (runningSubscription != null) {
+                runningSubscription.dispose();
+            }
+        }
+    }
+}
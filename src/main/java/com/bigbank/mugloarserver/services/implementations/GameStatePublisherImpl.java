@@ -0,0 +1,313 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.models.GameStateMessage;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of GameStatePublisher. Game threads only append a small event to their game's bounded buffer; a
+ * single publisher thread drains every buffer each frame interval and sends it as one frame, a JSON array of
+ * GameStateMessages. A repeated state replaces the pending one, and a full buffer drops its oldest event, so a busy
+ * game costs at most one bounded frame per interval however many events it emits.
+ * <p>
+ * Sent updates are also kept in a fixed-size ring per game, replayed to clients that subscribe late or reconnect. A
+ * game's ring is evicted once the game has been complete for the retention period, or untouched for the idle TTL. Over
+ * capacity, the same periodic sweep evicts rings of complete games without pending updates, oldest completion first,
+ * from a queue kept in completion order, so publishing never scans the rings. Sequence numbers come from one counter
+ * shared by all games, so a game whose ring was evicted carries on where it left off and its clients drop nothing.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class GameStatePublisherImpl implements GameStatePublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameStatePublisherImpl.class);
+    private static final String TOPIC_PREFIX = "/topic/game-status/";
+    private static final long SWEEP_INTERVAL_MILLIS = 10_000;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxEventsPerFrame;
+    private final int replaySize;
+    private final int replayMaxGames;
+    private final long replayRetentionMillis;
+    private final long replayIdleTtlMillis;
+    private final Map<String, PendingFrame> pendingFrames = new ConcurrentHashMap<>();
+    private final Map<String, GameHistory> histories = new ConcurrentHashMap<>();
+    private final Queue<String> completedGames = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("game-state-publisher").daemon().factory());
+    private final Counter publishedEvents;
+    private final Counter mergedEvents;
+    private final Counter droppedEvents;
+    private final Counter sentFrames;
+
+    public GameStatePublisherImpl(SimpMessagingTemplate messagingTemplate, MeterRegistry meterRegistry,
+                                  @Value("${mugloar.websocket.frame-interval:100ms}") Duration frameInterval,
+                                  @Value("${mugloar.websocket.max-events-per-frame:16}") int maxEventsPerFrame,
+                                  @Value("${mugloar.websocket.replay-size:32}") int replaySize,
+                                  @Value("${mugloar.websocket.replay-max-games:10000}") int replayMaxGames,
+                                  @Value("${mugloar.websocket.replay-retention:60s}") Duration replayRetention,
+                                  @Value("${mugloar.websocket.replay-idle-ttl:30m}") Duration replayIdleTtl) {
+        this.messagingTemplate = messagingTemplate;
+        this.maxEventsPerFrame = maxEventsPerFrame;
+        this.replaySize = replaySize;
+        this.replayMaxGames = replayMaxGames;
+        this.replayRetentionMillis = replayRetention.toMillis();
+        this.replayIdleTtlMillis = replayIdleTtl.toMillis();
+
+        this.publishedEvents = eventCounter(meterRegistry, "published");
+        this.mergedEvents = eventCounter(meterRegistry, "merged");
+        this.droppedEvents = eventCounter(meterRegistry, "dropped");
+        this.sentFrames = Counter.builder("mugloar.websocket.frames")
+                .description("Game state frames sent to the broker")
+                .register(meterRegistry);
+        Gauge.builder("mugloar.websocket.replay.games", histories, Map::size)
+                .description("Games with a replay buffer of recent state updates")
+                .register(meterRegistry);
+
+        long intervalMillis = Math.max(frameInterval.toMillis(), 1);
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::evictExpiredSafely, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void publish(String gameId, String state, String message) {
+        String key = String.valueOf(gameId);
+        long now = System.currentTimeMillis();
+        GameHistory history = histories.computeIfAbsent(key, id -> new GameHistory(replaySize));
+        history.touch(now);
+
+        pendingFrames.compute(key, (id, frame) -> {
+            PendingFrame pendingFrame = frame == null ? new PendingFrame() : frame;
+            pendingFrame.add(new PendingEvent(state, message, now, sequence.incrementAndGet()));
+            return pendingFrame;
+        });
+
+        publishedEvents.increment();
+    }
+
+    @Override
+    public void flush() {
+        for (String gameId : pendingFrames.keySet()) {
+            List<PendingEvent> events = new ArrayList<>();
+
+            // Removing the frame in the same step as draining it means a concurrent publish starts a new frame
+            pendingFrames.computeIfPresent(gameId, (id, frame) -> {
+                events.addAll(frame.events);
+                return null;
+            });
+
+            if (!events.isEmpty()) {
+                send(gameId, events);
+            }
+        }
+    }
+
+    @Override
+    public List<GameStateMessage> getSnapshot(String gameId) {
+        GameHistory history = histories.get(String.valueOf(gameId));
+        return history == null ? Collections.emptyList() : history.snapshot();
+    }
+
+    @Override
+    public void complete(String gameId) {
+        GameHistory history = histories.get(String.valueOf(gameId));
+
+        if (history != null && history.complete(System.currentTimeMillis())) {
+            completedGames.offer(String.valueOf(gameId));
+        }
+    }
+
+    /**
+     * Drops the replay buffers of games complete for longer than the retention period, or not updated for longer
+     * than the idle TTL. Buffers left over capacity are then dropped by completion, oldest first.
+     */
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+
+        histories.entrySet().removeIf(entry -> entry.getValue().isExpired(now, replayRetentionMillis,
+                replayIdleTtlMillis) && !pendingFrames.containsKey(entry.getKey()));
+        evictOverCapacity();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        flushSafely();
+    }
+
+    // PRIVATE METHODS //
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to flush game state frames: {}", e.getMessage(), e);
+        }
+    }
+
+    private void evictExpiredSafely() {
+        try {
+            evictExpired();
+        } catch (Exception e) {
+            LOGGER.error("Failed to evict game state replay buffers: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Polls the completion queue until the buffers fit again. Entries of buffers already evicted, or replaced by a
+     * new game under the same ID, are dropped on the way; games still waiting for a frame keep their place.
+     */
+    private void evictOverCapacity() {
+        List<String> unsent = new ArrayList<>();
+        String gameId;
+
+        while (histories.size() > replayMaxGames && (gameId = completedGames.poll()) != null) {
+            GameHistory history = histories.get(gameId);
+
+            if (history == null || !history.isComplete()) {
+                continue;
+            }
+
+            if (pendingFrames.containsKey(gameId)) {
+                unsent.add(gameId);
+            } else if (histories.remove(gameId, history)) {
+                LOGGER.debug("Replay buffers over capacity. Evicted GameID={}.", gameId);
+            }
+        }
+
+        // Buffers complete longer are evicted by age first, so their entries are trimmed from the head
+        while ((gameId = completedGames.peek()) != null && !histories.containsKey(gameId)) {
+            completedGames.poll();
+        }
+
+        completedGames.addAll(unsent);
+    }
+
+    private void send(String gameId, List<PendingEvent> events) {
+        List<GameStateMessage> frame = new ArrayList<>(events.size());
+
+        for (PendingEvent event : events) {
+            frame.add(new GameStateMessage(gameId, event.state(), event.message(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(event.epochMillis()), ZoneId.systemDefault()),
+                    event.sequence()));
+        }
+
+        GameHistory history = histories.get(gameId);
+
+        if (history != null) {
+            history.record(frame);
+        }
+
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + gameId, frame);
+        sentFrames.increment();
+    }
+
+    private Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mugloar.websocket.events")
+                .description("Game state updates by what happened to them before sending")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record PendingEvent(String state, String message, long epochMillis, long sequence) {
+    }
+
+    /**
+     * Pending events of one game, only touched inside the map's compute functions.
+     */
+    private final class PendingFrame {
+        private final ArrayDeque<PendingEvent> events = new ArrayDeque<>();
+
+        void add(PendingEvent event) {
+            PendingEvent last = events.peekLast();
+
+            if (last != null && Objects.equals(last.state(), event.state())) {
+                events.pollLast();
+                mergedEvents.increment();
+            } else if (events.size() >= maxEventsPerFrame) {
+                events.pollFirst();
+                droppedEvents.increment();
+            }
+
+            events.addLast(event);
+        }
+    }
+
+    /**
+     * Ring buffer of the most recently sent updates of one game.
+     */
+    private static final class GameHistory {
+        private final GameStateMessage[] ring;
+        private int next;
+        private int size;
+        private volatile long lastUpdated;
+        private volatile long completedAt;
+
+        GameHistory(int capacity) {
+            this.ring = new GameStateMessage[Math.max(capacity, 1)];
+        }
+
+        void touch(long now) {
+            lastUpdated = now;
+        }
+
+        synchronized boolean complete(long now) {
+            if (completedAt > 0) {
+                return false;
+            }
+
+            completedAt = now;
+            return true;
+        }
+
+        boolean isComplete() {
+            return completedAt > 0;
+        }
+
+        boolean isExpired(long now, long retentionMillis, long idleTtlMillis) {
+            long completed = completedAt;
+            return (completed > 0 && now - completed >= retentionMillis) || now - lastUpdated >= idleTtlMillis;
+        }
+
+        synchronized void record(List<GameStateMessage> frame) {
+            for (GameStateMessage message : frame) {
+                ring[next] = message;
+                next = (next + 1) % ring.length;
+                size = Math.min(size + 1, ring.length);
+            }
+        }
+
+        synchronized List<GameStateMessage> snapshot() {
+            List<GameStateMessage> messages = new ArrayList<>(size);
+            int start = (next - size + ring.length) % ring.length;
+
+            for (int i = 0; i < size; i++) {
+                messages.add(ring[(start + i) % ring.length]);
+            }
+
+            return messages;
+        }
+    }
+}
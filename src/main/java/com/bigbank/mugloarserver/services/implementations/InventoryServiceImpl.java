@@ -2,18 +2,29 @@ package com.bigbank.mugloarserver.services.implementations;
 
 import com.bigbank.mugloarserver.models.ShopItem;
 import com.bigbank.mugloarserver.services.InventoryService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Implementation of InventoryService
+ * Implementation of InventoryService. Each game only keeps the ids of its items in purchase order; the item details are
+ * shared between games. Inventories are dropped when their game is released, or evicted once they have not been
+ * touched for the configured time to live. Every read, and the game loop on each pass, touches an inventory, so only
+ * inventories of games that were never finalized expire.
  *
  * @author vinodjohn
  * @created 10.12.2024
@@ -22,22 +33,91 @@ import java.util.concurrent.ConcurrentHashMap;
 public class InventoryServiceImpl implements InventoryService {
     private static final Logger LOGGER = LoggerFactory.getLogger(InventoryServiceImpl.class);
 
-    private final Map<String, List<ShopItem>> ownedItemsStore = new ConcurrentHashMap<>();
+    private final Map<String, GameInventory> inventories = new ConcurrentHashMap<>();
+    private final Map<String, ShopItem> itemsById = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public InventoryServiceImpl(MeterRegistry meterRegistry,
+                                @Value("${mugloar.inventory.ttl:30m}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+
+        Gauge.builder("mugloar.inventory.games", inventories, Map::size)
+                .description("Games with an inventory held in memory")
+                .register(meterRegistry);
+    }
 
     @Override
     public boolean hasItem(String gameId, ShopItem item) {
-        List<ShopItem> ownedItems = ownedItemsStore.getOrDefault(gameId, Collections.emptyList());
-        return ownedItems.contains(item);
+        GameInventory inventory = touchInventory(gameId);
+        return inventory != null && inventory.ownedIds.contains(item.getId());
     }
 
     @Override
     public void addItem(String gameId, ShopItem item) {
-        ownedItemsStore.computeIfAbsent(gameId, k -> new ArrayList<>()).add(item);
+        itemsById.put(item.getId(), item);
+
+        GameInventory inventory = inventories.computeIfAbsent(gameId, k -> new GameInventory());
+        inventory.ownedIds.add(item.getId());
+        inventory.purchasedIds.add(item.getId());
+        inventory.lastTouched = System.nanoTime();
+
         LOGGER.debug("Added item '{}' to GameID={}.", item.getName(), gameId);
     }
 
     @Override
     public List<ShopItem> getAllByGameId(String gameId) {
-        return ownedItemsStore.getOrDefault(gameId, Collections.emptyList());
+        GameInventory inventory = touchInventory(gameId);
+
+        if (inventory == null) {
+            return Collections.emptyList();
+        }
+
+        List<ShopItem> ownedItems = new ArrayList<>();
+        inventory.purchasedIds.forEach(itemId -> ownedItems.add(itemsById.get(itemId)));
+
+        return ownedItems;
+    }
+
+    @Override
+    public void touch(String gameId) {
+        touchInventory(gameId);
+    }
+
+    @Override
+    public void releaseGame(String gameId) {
+        if (gameId != null && inventories.remove(gameId) != null) {
+            LOGGER.debug("Released inventory of GameID={}.", gameId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mugloar.inventory.eviction-interval:60s}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        int before = inventories.size();
+
+        inventories.values().removeIf(inventory -> now - inventory.lastTouched >= ttlNanos);
+
+        int evicted = before - inventories.size();
+
+        if (evicted > 0) {
+            LOGGER.info("Evicted {} abandoned game inventories.", evicted);
+        }
+    }
+
+    // PRIVATE METHODS //
+    private GameInventory touchInventory(String gameId) {
+        GameInventory inventory = inventories.get(gameId);
+
+        if (inventory != null) {
+            inventory.lastTouched = System.nanoTime();
+        }
+
+        return inventory;
+    }
+
+    private static final class GameInventory {
+        private final Set<String> ownedIds = ConcurrentHashMap.newKeySet();
+        private final Queue<String> purchasedIds = new ConcurrentLinkedQueue<>();
+        private volatile long lastTouched = System.nanoTime();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,287 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.services.MugloarRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of MugloarRateLimiter as a token bucket over all games, kept as a single theoretical arrival time
+ * that calls advance by their weight with compare-and-set. A call takes as many permits as the weight of its endpoint.
+ * <p>
+ * While permits last and no call is waiting, a call goes through on the calling thread. Otherwise it joins the queue of
+ * its game, and the games with waiting calls are served round-robin: one call per game per turn, so a game issuing
+ * calls faster than the others only ever lengthens its own queue. The queues are drained by whichever thread finds the
+ * drain idle, and by a timer when the bucket runs dry, so there is no lock and no dedicated thread.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class MugloarRateLimiterImpl implements MugloarRateLimiter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MugloarRateLimiterImpl.class);
+    private static final String NO_GAME = "";
+
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final Map<String, Integer> weights;
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    private final Map<String, GameQueue> gameQueues = new ConcurrentHashMap<>();
+    private final Queue<GameQueue> readyGames = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waitingCalls = new AtomicInteger();
+    private final AtomicInteger drainWork = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Scheduler scheduler = Schedulers.parallel();
+    private final Meter.MeterProvider<Timer> waitTimers;
+
+    public MugloarRateLimiterImpl(MeterRegistry meterRegistry,
+                                  @Value("${mugloar.rate-limit.permits-per-second:50}") double permitsPerSecond,
+                                  @Value("${mugloar.rate-limit.burst:10}") int burst,
+                                  @Value("${mugloar.rate-limit.weights:}") String[] weights) {
+        this.enabled = permitsPerSecond > 0;
+        this.weights = parseWeights(weights);
+        this.intervalNanos = enabled ? Math.max((long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond), 1) : 0;
+
+        // The bucket has to hold the heaviest call, or that call could never go through
+        int maxWeight = this.weights.values().stream().mapToInt(Integer::intValue).max().orElse(1);
+        this.burstNanos = Math.max(burst, maxWeight) * intervalNanos;
+
+        this.waitTimers = Timer.builder("mugloar.api.rate-limit.waits")
+                .description("Time calls to the Mugloar API waited for rate limit permits, by endpoint")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        Gauge.builder("mugloar.api.rate-limit.waiting", waitingCalls, AtomicInteger::get)
+                .description("Calls to the Mugloar API waiting for rate limit permits")
+                .register(meterRegistry);
+
+        if (enabled) {
+            LOGGER.info("Mugloar API rate limit: {} permits per second, burst of {}, weights {}.", permitsPerSecond,
+                    burstNanos / intervalNanos, this.weights);
+        }
+    }
+
+    @Override
+    public Mono<Void> acquire(String gameId, String endpoint) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        int weight = weights.getOrDefault(endpoint, 1);
+
+        return Mono.defer(() -> {
+            // Nobody is overtaken: with calls waiting, the fast path is closed and this call queues behind them
+            if (waitingCalls.get() == 0 && tryAcquire(weight) == 0) {
+                waitTimers.withTag("endpoint", endpoint).record(0, TimeUnit.NANOSECONDS);
+                return Mono.empty();
+            }
+
+            return Mono.create(sink -> enqueue(gameId == null ? NO_GAME : gameId,
+                    new Waiter(endpoint, weight, sink, System.nanoTime())));
+        });
+    }
+
+    @Override
+    public int getWaitingCount() {
+        return waitingCalls.get();
+    }
+
+    // PRIVATE METHODS //
+
+    /**
+     * @return 0 if the permits were taken, otherwise how long until they will be available
+     */
+    private long tryAcquire(int weight) {
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long next = (current - now > 0 ? current : now) + weight * intervalNanos;
+            long waitNanos = next - now - burstNanos;
+
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private void enqueue(String gameId, Waiter waiter) {
+        waiter.sink.onCancel(waiter::cancel);
+        waitingCalls.incrementAndGet();
+
+        // Joined inside compute, so the drain cannot drop the queue between looking it up and joining it
+        GameQueue gameQueue = gameQueues.compute(gameId, (id, existing) -> {
+            GameQueue queue = existing == null ? new GameQueue(id) : existing;
+            queue.waiters.offer(waiter);
+            return queue;
+        });
+
+        schedule(gameQueue);
+        drain();
+    }
+
+    private void schedule(GameQueue gameQueue) {
+        if (!gameQueue.waiters.isEmpty() && gameQueue.ready.compareAndSet(false, true)) {
+            readyGames.offer(gameQueue);
+        }
+    }
+
+    /**
+     * Serves waiting calls round-robin over the games while permits last. Only one thread drains at a time; a thread
+     * arriving while another drains leaves it a note to go round once more.
+     */
+    private void drain() {
+        if (drainWork.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            GameQueue gameQueue;
+
+            while ((gameQueue = readyGames.peek()) != null) {
+                Waiter waiter = gameQueue.waiters.peek();
+
+                if (waiter == null) {
+                    readyGames.poll();
+                    gameQueue.ready.set(false);
+
+                    // Dropped only while still empty; a call that joined since keeps the queue and puts it back in line
+                    if (gameQueues.computeIfPresent(gameQueue.gameId, (id, queue) -> queue.waiters.isEmpty() ? null :
+                            queue) != null) {
+                        schedule(gameQueue);
+                    }
+                    continue;
+                }
+
+                if (waiter.isCancelled()) {
+                    gameQueue.waiters.poll();
+                    waitingCalls.decrementAndGet();
+                    continue;
+                }
+
+                long waitNanos = tryAcquire(waiter.weight);
+
+                if (waitNanos > 0) {
+                    scheduleDrain(waitNanos);
+                    break;
+                }
+
+                gameQueue.waiters.poll();
+                waitingCalls.decrementAndGet();
+
+                // The game goes to the back of the line, behind every other game with a waiting call
+                readyGames.poll();
+                gameQueue.ready.set(false);
+                schedule(gameQueue);
+
+                waitTimers.withTag("endpoint", waiter.endpoint).record(System.nanoTime() - waiter.enqueuedNanos,
+                        TimeUnit.NANOSECONDS);
+                waiter.sink.success();
+            }
+
+            missed = drainWork.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                drainScheduled.set(false);
+                drain();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Map<String, Integer> parseWeights(String[] weights) {
+        Map<String, Integer> parsed = new HashMap<>();
+
+        for (String weight : weights) {
+            if (weight.isBlank()) {
+                continue;
+            }
+
+            String[] parts = weight.split("=");
+            Integer parsedWeight = parts.length == 2 && !parts[0].isBlank() ? parseWeight(parts[1]) : null;
+
+            if (parsedWeight == null) {
+                LOGGER.warn("Ignoring malformed rate limit weight '{}', expected endpoint=weight.", weight);
+                continue;
+            }
+
+            parsed.put(parts[0].trim(), Math.max(parsedWeight, 1));
+        }
+
+        return Map.copyOf(parsed);
+    }
+
+    private static Integer parseWeight(String weight) {
+        try {
+            return Integer.parseInt(weight.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Calls of one game waiting for permits, in the order they were made.
+     */
+    private static final class GameQueue {
+        private final String gameId;
+        private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean ready = new AtomicBoolean();
+
+        GameQueue(String gameId) {
+            this.gameId = gameId;
+        }
+    }
+
+    /**
+     * A call waiting for permits. A cancelled call is skipped once it reaches the head of its queue.
+     */
+    private static final class Waiter {
+        private final String endpoint;
+        private final int weight;
+        private final MonoSink<Void> sink;
+        private final long enqueuedNanos;
+        private volatile boolean cancelled;
+
+        Waiter(String endpoint, int weight, MonoSink<Void> sink, long enqueuedNanos) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+            this.sink = sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
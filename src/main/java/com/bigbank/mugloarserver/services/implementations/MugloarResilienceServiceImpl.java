@@ -0,0 +1,280 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.services.MugloarResilienceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of MugloarResilienceService.
+ * <p>
+ * One circuit breaker guards the Mugloar API for all games. It opens after a number of consecutive transient failures,
+ * and while it is open every call waits instead of failing, so all games pause rather than spin on errors. Once the
+ * open period is over a single trial call goes through; its success closes the circuit, its failure opens it again.
+ * The state is swapped as a whole with compare-and-set, so the hot path of a closed circuit takes no lock.
+ * <p>
+ * Only GETs of endpoints with a retry policy are retried, with exponential backoff and jitter, since retrying a POST
+ * could play a turn twice. Every attempt passes the circuit breaker on its own.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class MugloarResilienceServiceImpl implements MugloarResilienceService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MugloarResilienceServiceImpl.class);
+    private static final long MAX_TRIAL_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Set<String> retryEndpoints;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long trialPollNanos;
+    private final AtomicReference<Circuit> circuit = new AtomicReference<>(Circuit.closed(0));
+    private final Meter.MeterProvider<Counter> transitionCounters;
+    private final Meter.MeterProvider<Counter> retryCounters;
+    private final Timer waitTimer;
+
+    public MugloarResilienceServiceImpl(MeterRegistry meterRegistry,
+                                        @Value("${mugloar.resilience.retry.endpoints:messages,shop}")
+                                        String[] retryEndpoints,
+                                        @Value("${mugloar.resilience.retry.max-attempts:3}") int maxAttempts,
+                                        @Value("${mugloar.resilience.retry.initial-backoff:200ms}")
+                                        Duration initialBackoff,
+                                        @Value("${mugloar.resilience.retry.max-backoff:2s}") Duration maxBackoff,
+                                        @Value("${mugloar.resilience.retry.jitter:0.5}") double jitter,
+                                        @Value("${mugloar.resilience.circuit-breaker.failure-threshold:10}")
+                                        int failureThreshold,
+                                        @Value("${mugloar.resilience.circuit-breaker.open-duration:5s}")
+                                        Duration openDuration) {
+        this.retryEndpoints = Set.of(retryEndpoints);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = Math.clamp(jitter, 0.0, 1.0);
+        this.failureThreshold = Math.max(failureThreshold, 1);
+        this.openDurationNanos = openDuration.toNanos();
+        this.trialPollNanos = Math.max(Math.min(openDurationNanos, MAX_TRIAL_POLL_NANOS), 1);
+
+        this.transitionCounters = Counter.builder("mugloar.api.circuit-breaker.transitions")
+                .description("State transitions of the Mugloar API circuit breaker")
+                .withRegistry(meterRegistry);
+        this.retryCounters = Counter.builder("mugloar.api.retries")
+                .description("Retried calls to the Mugloar API by endpoint")
+                .withRegistry(meterRegistry);
+        this.waitTimer = Timer.builder("mugloar.api.circuit-breaker.waits")
+                .description("Time calls waited for the Mugloar API circuit breaker to let them through")
+                .register(meterRegistry);
+
+        for (CircuitState state : CircuitState.values()) {
+            Gauge.builder("mugloar.api.circuit-breaker.state", circuit, current -> current.get().state() == state ?
+                            1 : 0)
+                    .description("Whether the Mugloar API circuit breaker is in the tagged state")
+                    .tag("state", state.getTag())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public <T> Mono<T> guard(String endpoint, HttpMethod method, Mono<T> call, Predicate<Throwable> isTransient) {
+        Mono<T> attempt = Mono.defer(() -> {
+            // Set only if this attempt became the trial call of a half-open circuit
+            AtomicReference<Circuit> trial = new AtomicReference<>();
+
+            return awaitPermission(trial)
+                    .then(call)
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(e -> {
+                        // Any answer that is not a failure of the upstream, a Game Over included, shows it is healthy
+                        if (isTransient.test(e)) {
+                            onFailure();
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    .doOnCancel(() -> releaseTrial(trial.get()));
+        });
+
+        if (method != HttpMethod.GET || !retryEndpoints.contains(endpoint) || maxAttempts == 1) {
+            return attempt;
+        }
+
+        return attempt.retryWhen(Retry.backoff(maxAttempts - 1, initialBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter)
+                .filter(isTransient)
+                .doBeforeRetry(signal -> {
+                    retryCounters.withTag("endpoint", endpoint).increment();
+                    LOGGER.warn("Retrying {} {} after failure {}: {}", method, endpoint, signal.totalRetries() + 1,
+                            signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    @Override
+    public CircuitState getCircuitState() {
+        return circuit.get().state();
+    }
+
+    // PRIVATE METHODS //
+    private Mono<Void> awaitPermission(AtomicReference<Circuit> trial) {
+        return Mono.defer(() -> {
+            long waitNanos = tryAcquirePermission(trial);
+
+            if (waitNanos <= 0) {
+                return Mono.empty();
+            }
+
+            long start = System.nanoTime();
+            return waitForPermission(waitNanos, trial)
+                    .doOnTerminate(() -> waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private Mono<Void> waitForPermission(long waitNanos, AtomicReference<Circuit> trial) {
+        return Mono.delay(Duration.ofNanos(waitNanos))
+                .then(Mono.defer(() -> {
+                    long nextWaitNanos = tryAcquirePermission(trial);
+                    return nextWaitNanos <= 0 ? Mono.<Void>empty() : waitForPermission(nextWaitNanos, trial);
+                }));
+    }
+
+    /**
+     * @param trial Receives the half-open state that admitted the call, if the call became the trial.
+     * @return 0 if the call may go through, otherwise how long to wait before asking again
+     */
+    private long tryAcquirePermission(AtomicReference<Circuit> trial) {
+        while (true) {
+            Circuit current = circuit.get();
+
+            switch (current.state()) {
+                case CLOSED -> {
+                    return 0;
+                }
+                case OPEN -> {
+                    long remainingNanos = current.openedAtNanos() + openDurationNanos - System.nanoTime();
+
+                    if (remainingNanos > 0) {
+                        return remainingNanos;
+                    }
+
+                    Circuit trialCircuit = Circuit.halfOpen(current.openedAtNanos(), true);
+
+                    if (transition(current, trialCircuit)) {
+                        trial.set(trialCircuit);
+                        return 0;
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (current.trialInFlight()) {
+                        return trialPollNanos;
+                    }
+
+                    Circuit trialCircuit = Circuit.halfOpen(current.openedAtNanos(), true);
+
+                    if (circuit.compareAndSet(current, trialCircuit)) {
+                        trial.set(trialCircuit);
+                        return 0;
+                    }
+                }
+            }
+        }
+    }
+
+    private void onSuccess() {
+        while (true) {
+            Circuit current = circuit.get();
+
+            if (current.state() == CircuitState.OPEN || (current.state() == CircuitState.CLOSED &&
+                    current.failures() == 0)) {
+                return;
+            }
+
+            if (transition(current, Circuit.closed(0))) {
+                return;
+            }
+        }
+    }
+
+    private void onFailure() {
+        while (true) {
+            Circuit current = circuit.get();
+
+            if (current.state() == CircuitState.OPEN) {
+                return;
+            }
+
+            int failures = current.failures() + 1;
+            Circuit next = current.state() == CircuitState.HALF_OPEN || failures >= failureThreshold ?
+                    Circuit.open(System.nanoTime()) : Circuit.closed(failures);
+
+            if (transition(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * A trial call that was cancelled never reports back, so the next call becomes the trial instead. Only the very
+     * state that admitted the cancelled call is released: a cancelled call that was not the trial, or a trial whose
+     * circuit has moved on since, leaves the circuit alone.
+     */
+    private void releaseTrial(Circuit trialCircuit) {
+        if (trialCircuit != null) {
+            circuit.compareAndSet(trialCircuit, Circuit.halfOpen(trialCircuit.openedAtNanos(), false));
+        }
+    }
+
+    private boolean transition(Circuit current, Circuit next) {
+        if (!circuit.compareAndSet(current, next)) {
+            return false;
+        }
+
+        if (current.state() != next.state()) {
+            transitionCounters.withTags("from", current.state().getTag(), "to", next.state().getTag()).increment();
+
+            if (next.state() == CircuitState.OPEN) {
+                LOGGER.warn("Mugloar API circuit breaker opened. Pausing all calls for {} ms.",
+                        TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+            } else {
+                LOGGER.info("Mugloar API circuit breaker moved from {} to {}.", current.state(), next.state());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Immutable state of the circuit breaker, replaced as a whole on every change.
+     */
+    private record Circuit(CircuitState state, int failures, long openedAtNanos, boolean trialInFlight) {
+        static Circuit closed(int failures) {
+            return new Circuit(CircuitState.CLOSED, failures, 0, false);
+        }
+
+        static Circuit open(long openedAtNanos) {
+            return new Circuit(CircuitState.OPEN, 0, openedAtNanos, false);
+        }
+
+        static Circuit halfOpen(long openedAtNanos, boolean trialInFlight) {
+            return new Circuit(CircuitState.HALF_OPEN, 0, openedAtNanos, trialInFlight);
+        }
+    }
+}
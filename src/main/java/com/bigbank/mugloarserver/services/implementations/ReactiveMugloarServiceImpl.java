@@ -0,0 +1,434 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.exceptions.MugloarException;
+import com.bigbank.mugloarserver.models.*;
+import com.bigbank.mugloarserver.services.MugloarRateLimiter;
+import com.bigbank.mugloarserver.services.MugloarResilienceService;
+import com.bigbank.mugloarserver.services.ReactiveMugloarService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Implementation of ReactiveMugloarService. Every call is timed into mugloar.api.requests, tagged by endpoint and
+ * outcome (success, game_over, http_error, parse_error or transport_error) with a percentile histogram, and every Game
+ * Over response is counted into mugloar.api.game-over by endpoint. Every attempt is timed on its own, and goes through
+ * MugloarResilienceService, which retries GETs and pauses all calls while the upstream is unhealthy, and then
+ * MugloarRateLimiter, which caps the combined rate of all games. Time spent waiting for either is not part of the
+ * request timer.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class ReactiveMugloarServiceImpl implements ReactiveMugloarService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMugloarServiceImpl.class);
+    private static final String[] ENDPOINTS = {"start", "investigate", "messages", "solve", "shop", "buy"};
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader gameReader;
+    private final ObjectReader investigationReader;
+    private final ObjectReader messagesReader;
+    private final ObjectReader solveResponseReader;
+    private final ObjectReader shopItemsReader;
+    private final ObjectReader purchaseResponseReader;
+    private final WebClient webClient;
+    private final MugloarResilienceService mugloarResilienceService;
+    private final MugloarRateLimiter mugloarRateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> requestTimers;
+    private final Meter.MeterProvider<Counter> gameOverCounters;
+
+    public ReactiveMugloarServiceImpl(WebClient mugloarWebClient, ObjectMapper objectMapper,
+                                      MugloarResilienceService mugloarResilienceService,
+                                      MugloarRateLimiter mugloarRateLimiter, MeterRegistry meterRegistry) {
+        this.webClient = mugloarWebClient;
+        this.mugloarResilienceService = mugloarResilienceService;
+        this.mugloarRateLimiter = mugloarRateLimiter;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.requestTimers = Timer.builder("mugloar.api.requests")
+                .description("Calls to the Mugloar API by endpoint and outcome")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.gameOverCounters = Counter.builder("mugloar.api.game-over")
+                .description("Game Over responses from the Mugloar API by endpoint")
+                .withRegistry(meterRegistry);
+
+        // Registered up front, so every endpoint reports a zero count before its first Game Over
+        for (String endpoint : ENDPOINTS) {
+            gameOverCounters.withTag("endpoint", endpoint);
+        }
+
+        // Readers are immutable and thread-safe, so the root deserializers are resolved once here instead of per call
+        this.gameReader = reader(Game.class);
+        this.investigationReader = reader(Investigation.class);
+        this.messagesReader = reader(new TypeReference<List<Message>>() {
+        });
+        this.solveResponseReader = reader(MessageSolveResponse.class);
+        this.shopItemsReader = reader(new TypeReference<List<ShopItem>>() {
+        });
+        this.purchaseResponseReader = reader(ShopPurchaseResponse.class);
+    }
+
+    @Override
+    public Mono<Game> startGame() {
+        LOGGER.debug("Starting a new game..");
+        return this.<Game>post("start", "/game/start", gameReader)
+                .doOnNext(this::validateGame);
+    }
+
+    @Override
+    public Mono<Investigation> investigate(String gameId) {
+        LOGGER.debug("Investigating reputation for gameId: {}", gameId);
+
+        return Mono.defer(() -> {
+            validateGameId(gameId);
+            return post("investigate", "/{gameId}/investigate/reputation", investigationReader, gameId);
+        });
+    }
+
+    @Override
+    public Mono<List<Message>> getMessages(String gameId) {
+        LOGGER.debug("Retrieving messages for gameId: {}", gameId);
+
+        return Mono.defer(() -> {
+            validateGameId(gameId);
+            return this.<List<Message>>get("messages", "/{gameId}/messages", messagesReader, gameId);
+        }).doOnNext(messages -> messages.forEach(this::validateMessage));
+    }
+
+    @Override
+    public Mono<MessageSolveResponse> solveMessage(String gameId, String adId) {
+        LOGGER.debug("Solving message adId: {} for gameId: {}", adId, gameId);
+
+        return Mono.defer(() -> {
+            validateGameId(gameId);
+            validateNotBlank(adId);
+            return post("solve", "/{gameId}/solve/{adId}", solveResponseReader, gameId, adId);
+        });
+    }
+
+    @Override
+    public Mono<List<ShopItem>> getShopItems(String gameId) {
+        LOGGER.debug("Retrieving shop items for gameId: {}", gameId);
+
+        return Mono.defer(() -> {
+            validateGameId(gameId);
+            return this.<List<ShopItem>>get("shop", "/{gameId}/shop", shopItemsReader, gameId);
+        }).doOnNext(shopItems -> shopItems.forEach(this::validateShopItem));
+    }
+
+    @Override
+    public Mono<ShopPurchaseResponse> buyItem(String gameId, String itemId) {
+        LOGGER.debug("Attempting to buy itemId: {} for gameId: {}", itemId, gameId);
+
+        return Mono.defer(() -> {
+            validateGameId(gameId);
+            validateNotBlank(itemId);
+            return post("buy", "/{gameId}/shop/buy/{itemId}", purchaseResponseReader, gameId, itemId);
+        });
+    }
+
+    // PRIVATE METHODS //
+    private void validateGameId(String gameId) {
+        validateNotBlank(gameId);
+    }
+
+    private void validateGame(Game game) {
+        if (game == null || game.getGameId() == null || game.getGameId().isBlank()) {
+            throw new MugloarException("error.unexpected");
+        }
+    }
+
+    private void validateMessage(Message message) {
+        if (message == null || message.getDecodedAdId() == null || message.getDecodedAdId().isBlank() ||
+                message.getIntReward() <= 0 || message.getDecodedMessage() == null || message.getDecodedMessage().isBlank()) {
+            throw new MugloarException("error.invalid.input");
+        }
+    }
+
+    private void validateShopItem(ShopItem item) {
+        if (item == null || item.getId() == null || item.getId().isBlank() || item.getName() == null ||
+                item.getName().isBlank() || item.getCost() <= 0) {
+            throw new MugloarException("error.invalid.input");
+        }
+    }
+
+    private void validateNotBlank(String val) {
+        if (val == null || val.isBlank()) {
+            throw new MugloarException("error.invalid.input");
+        }
+    }
+
+    private String resolveUri(String uriTemplate, Object... variables) {
+        if (variables == null || variables.length == 0) {
+            return uriTemplate;
+        }
+
+        return String.format(uriTemplate.replaceAll("\\{[^}]+}", "%s"), variables);
+    }
+
+    private boolean isGameOver(byte[] rawResponse) {
+        try (GameOverDetectingParser parser = new GameOverDetectingParser(objectMapper.createParser(rawResponse))) {
+            JsonToken token;
+
+            while (!parser.isGameOver() && (token = parser.nextToken()) != null) {
+                if (token.isStructStart() && !parser.getParsingContext().getParent().inRoot()) {
+                    parser.skipChildren();
+                }
+            }
+
+            return parser.isGameOver();
+        } catch (Exception e) {
+            LOGGER.error("Error parsing JSON response: {}", e.getMessage(), e);
+        }
+
+        return false;
+    }
+
+    private <T> T decode(byte[] raw, HttpMethod method, String uriTemplate, ObjectReader reader,
+                         Object... vars) throws IOException {
+        T value;
+
+        try (GameOverDetectingParser parser = new GameOverDetectingParser(reader.createParser(raw))) {
+            try {
+                value = reader.readValue(parser);
+            } catch (IOException e) {
+                // A Game Over body does not have the shape of the expected type, so binding may stop before the
+                // status field is reached. Only this failure path pays for a second, tree-less scan.
+                if (parser.isGameOver() || isGameOver(raw)) {
+                    throw gameOver(method, uriTemplate, vars);
+                }
+
+                throw e;
+            }
+
+            if (parser.isGameOver()) {
+                throw gameOver(method, uriTemplate, vars);
+            }
+        }
+
+        return value;
+    }
+
+    private GameOverException gameOver(HttpMethod method, String uriTemplate, Object... vars) {
+        return new GameOverException("Received 'Game Over' status from " + method + " " + resolveUri(uriTemplate,
+                vars));
+    }
+
+    private <T> Mono<T> execute(String endpoint, HttpMethod method, String uriTemplate, ObjectReader reader,
+                                Object... vars) {
+        // Every call but starting a game is made for the game in its first URI variable
+        String gameId = vars.length > 0 ? String.valueOf(vars[0]) : null;
+
+        Mono<T> attempt = mugloarRateLimiter.acquire(gameId, endpoint).then(Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return webClient.method(method).uri(uriTemplate, vars)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, resp -> resp.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .flatMap(body -> handleErrorResponse(resp.statusCode(), method, uriTemplate, vars, body)))
+                    .bodyToMono(byte[].class)
+                    .switchIfEmpty(Mono.error(() -> new EmptyResponseException(method, resolveUri(uriTemplate,
+                            vars))))
+                    .handle((byte[] raw, SynchronousSink<T> sink) -> {
+                        try {
+                            sink.next(decode(raw, method, uriTemplate, reader, vars));
+                        } catch (Exception e) {
+                            sink.error(e);
+                        }
+                    })
+                    .doOnSuccess(value -> sample.stop(requestTimers.withTags("endpoint", endpoint, "outcome",
+                            "success")))
+                    .doOnError(e -> recordFailure(sample, endpoint, e));
+        }));
+
+        return mugloarResilienceService.guard(endpoint, method, attempt, this::isTransient)
+                .doOnError(GameOverException.class, g -> LOGGER.warn(g.getMessage()))
+                .onErrorMap(e -> !(e instanceof GameOverException), e -> {
+                    String resolved = resolveUri(uriTemplate, vars);
+                    LOGGER.error("{} request to {} failed: {}", method, resolved, e.getMessage(), e);
+                    return new MugloarException("error.unexpected", e);
+                });
+    }
+
+    /**
+     * Failures of the upstream or the way to it: 5xx and 429 answers and transport errors. Game Overs, other error
+     * statuses and undecodable bodies are final answers.
+     */
+    private boolean isTransient(Throwable e) {
+        if (e instanceof ErrorStatusException errorStatus) {
+            return errorStatus.getStatus().is5xxServerError() || errorStatus.getStatus().value() == 429;
+        }
+
+        return !(e instanceof MugloarException) && !isParseError(e);
+    }
+
+    private boolean isParseError(Throwable e) {
+        return e instanceof JsonProcessingException || e instanceof EmptyResponseException;
+    }
+
+    private void recordFailure(Timer.Sample sample, String endpoint, Throwable e) {
+        String outcome;
+
+        if (e instanceof GameOverException) {
+            outcome = "game_over";
+            gameOverCounters.withTag("endpoint", endpoint).increment();
+        } else if (e instanceof ErrorStatusException) {
+            outcome = "http_error";
+        } else if (isParseError(e)) {
+            outcome = "parse_error";
+        } else {
+            outcome = "transport_error";
+        }
+
+        sample.stop(requestTimers.withTags("endpoint", endpoint, "outcome", outcome));
+    }
+
+    private Mono<? extends Throwable> handleErrorResponse(HttpStatusCode status, HttpMethod method,
+                                                          String uriTemplate, Object[] vars, byte[] body) {
+        String resolved = resolveUri(uriTemplate, vars);
+        if (isGameOver(body)) {
+            LOGGER.warn("Game Over detected in response from {}", resolved);
+            return Mono.error(gameOver(method, uriTemplate, vars));
+        }
+        LOGGER.error("Error response from {}: {}", resolved, new String(body, StandardCharsets.UTF_8));
+        return Mono.error(new ErrorStatusException(status, method, resolved));
+    }
+
+    private <T> Mono<T> get(String endpoint, String uriTemplate, ObjectReader responseReader, String gameId) {
+        return execute(endpoint, HttpMethod.GET, uriTemplate, responseReader, gameId);
+    }
+
+    private <T> Mono<T> post(String endpoint, String uriTemplate, ObjectReader responseReader,
+                             Object... uriVariables) {
+        return execute(endpoint, HttpMethod.POST, uriTemplate, responseReader, uriVariables);
+    }
+
+    private ObjectReader reader(Class<?> type) {
+        return objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private ObjectReader reader(TypeReference<?> type) {
+        return objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * An error status from the Mugloar API that is not a Game Over
+     */
+    private static final class ErrorStatusException extends RuntimeException {
+        private final HttpStatusCode status;
+
+        private ErrorStatusException(HttpStatusCode status, HttpMethod method, String uri) {
+            super(method + " " + uri + " answered " + status.value());
+            this.status = status;
+        }
+
+        private HttpStatusCode getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * A successful response without a body, which cannot be decoded into any of the expected types
+     */
+    private static final class EmptyResponseException extends IOException {
+        private EmptyResponseException(HttpMethod method, String uri) {
+            super(method + " " + uri + " answered with an empty body");
+        }
+    }
+
+    /**
+     * Parser that watches the tokens handed to the data binder and remembers whether the top-level object carried
+     * {@code "status": "Game Over"}, so a response is checked and bound in one pass over its bytes.
+     */
+    private static final class GameOverDetectingParser extends JsonParserDelegate {
+        private boolean gameOver;
+
+        private GameOverDetectingParser(JsonParser parser) {
+            super(parser);
+        }
+
+        private boolean isGameOver() {
+            return gameOver;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+
+            if (token == JsonToken.VALUE_STRING && !gameOver) {
+                JsonStreamContext context = delegate.getParsingContext();
+                gameOver = context.inObject() && context.getParent().inRoot() &&
+                        "status".equals(context.getCurrentName()) &&
+                        "Game Over".equalsIgnoreCase(delegate.getText());
+            }
+
+            return token;
+        }
+
+        // The delegate would forward these shortcuts straight to the wrapped parser, bypassing nextToken().
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public String nextFieldName() throws IOException {
+            return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+        }
+
+        @Override
+        public boolean nextFieldName(SerializableString name) throws IOException {
+            return nextToken() == JsonToken.FIELD_NAME && name.getValue().equals(currentName());
+        }
+
+        @Override
+        public String nextTextValue() throws IOException {
+            return nextToken() == JsonToken.VALUE_STRING ? getText() : null;
+        }
+
+        @Override
+        public int nextIntValue(int defaultValue) throws IOException {
+            return nextToken() == JsonToken.VALUE_NUMBER_INT ? getIntValue() : defaultValue;
+        }
+
+        @Override
+        public long nextLongValue(long defaultValue) throws IOException {
+            return nextToken() == JsonToken.VALUE_NUMBER_INT ? getLongValue() : defaultValue;
+        }
+
+        @Override
+        public Boolean nextBooleanValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.VALUE_TRUE ? Boolean.TRUE : token == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.services.ShopCatalogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of ShopCatalogService. A cached catalog goes stale after a configurable time to live or once the game
+ * has advanced a configurable number of turns past the turn it was fetched on.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class ShopCatalogServiceImpl implements ShopCatalogService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShopCatalogServiceImpl.class);
+
+    private final Map<String, CachedCatalog> catalogs = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxTurns;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter skips;
+
+    public ShopCatalogServiceImpl(MeterRegistry meterRegistry,
+                                  @Value("${mugloar.shop.cache.ttl:60s}") Duration ttl,
+                                  @Value("${mugloar.shop.cache.max-turns:10}") int maxTurns) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxTurns = maxTurns;
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.skips = lookupCounter(meterRegistry, "skipped");
+    }
+
+    @Override
+    public Optional<List<ShopItem>> getCachedItems(Game game) {
+        CachedCatalog catalog = freshCatalog(game);
+
+        if (catalog == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        LOGGER.debug("Using cached shop catalog for GameID={} fetched on turn {}.", game.getGameId(), catalog.turn());
+        return Optional.of(catalog.items());
+    }
+
+    @Override
+    public void cacheItems(Game game, List<ShopItem> shopItems) {
+        if (game.getGameId() == null || shopItems == null) {
+            return;
+        }
+
+        double cheapestCost = shopItems.stream()
+                .mapToDouble(ShopItem::getCost)
+                .min()
+                .orElse(Double.MAX_VALUE);
+
+        catalogs.put(game.getGameId(), new CachedCatalog(List.copyOf(shopItems), cheapestCost, game.getTurn(),
+                System.nanoTime()));
+    }
+
+    @Override
+    public boolean isBelowCheapestItem(Game game) {
+        CachedCatalog catalog = freshCatalog(game);
+
+        if (catalog != null && game.getGold() < catalog.cheapestCost()) {
+            skips.increment();
+            LOGGER.debug("GameID={} has {} gold, cheapest cached item costs {}. Skipping shop.", game.getGameId(),
+                    game.getGold(), catalog.cheapestCost());
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void invalidate(String gameId) {
+        if (gameId != null && catalogs.remove(gameId) != null) {
+            LOGGER.debug("Invalidated shop catalog for GameID={}.", gameId);
+        }
+    }
+
+    // PRIVATE METHODS //
+    private CachedCatalog freshCatalog(Game game) {
+        if (game.getGameId() == null) {
+            return null;
+        }
+
+        CachedCatalog catalog = catalogs.get(game.getGameId());
+
+        if (catalog == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - catalog.fetchedAt() >= ttlNanos || game.getTurn() - catalog.turn() >= maxTurns) {
+            catalogs.remove(game.getGameId(), catalog);
+            return null;
+        }
+
+        return catalog;
+    }
+
+    private Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mugloar.shop.catalog.lookups")
+                .description("Shop catalog lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedCatalog(List<ShopItem> items, double cheapestCost, int turn, long fetchedAt) {
+    }
+}
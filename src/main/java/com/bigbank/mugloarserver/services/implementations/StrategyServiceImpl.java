@@ -2,8 +2,11 @@ package com.bigbank.mugloarserver.services.implementations;
 
 import com.bigbank.mugloarserver.models.*;
 import com.bigbank.mugloarserver.services.StrategyService;
+import com.bigbank.mugloarserver.strategies.MessageScorer;
+import com.bigbank.mugloarserver.strategies.ShopOptimizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -19,15 +22,65 @@ import java.util.concurrent.ConcurrentHashMap;
 public class StrategyServiceImpl implements StrategyService {
     private static final Logger LOGGER = LoggerFactory.getLogger(StrategyServiceImpl.class);
 
-    private final Set<String> solvedMessageIds = Collections.newSetFromMap(new ConcurrentHashMap<>());
-    private final Map<String, Integer> failureCounts = new ConcurrentHashMap<>();
-    private double peopleMultiplier = 1.0;
-    private double stateMultiplier = 1.0;
-    private double underworldMultiplier = 1.0;
+    private final Map<String, StrategyContext> contexts = new ConcurrentHashMap<>();
+    private final MessageScorer messageScorer;
+    private final ShopOptimizer shopOptimizer;
+
+    public StrategyServiceImpl(Map<String, MessageScorer> messageScorers, ShopOptimizer shopOptimizer,
+                               @Value("${mugloar.strategy.message-scorer:expectedValue}") String messageScorerName) {
+        this.messageScorer = messageScorers.get(messageScorerName);
+        this.shopOptimizer = shopOptimizer;
+
+        if (this.messageScorer == null) {
+            throw new IllegalStateException("Unknown message scorer '" + messageScorerName + "'. Available: " +
+                    messageScorers.keySet());
+        }
+
+        LOGGER.info("Scoring messages with the '{}' message scorer.", messageScorerName);
+    }
+
+    @Override
+    public StrategyContext createContext(String gameId) {
+        StrategyContext context = new StrategyContext(gameId);
+        contexts.put(gameId, context);
+        LOGGER.debug("Created strategy context for GameID={}. Active contexts: {}", gameId, contexts.size());
+        return context;
+    }
+
+    @Override
+    public StrategyContext getContext(String gameId) {
+        if (gameId == null) {
+            LOGGER.warn("No GameID given. Using a transient strategy context.");
+            return new StrategyContext(null);
+        }
+
+        StrategyContext context = contexts.get(gameId);
+
+        if (context == null) {
+            // A lookup racing the end of its game must not bring back a context nothing would release again
+            LOGGER.debug("No strategy context for GameID={}. Using a transient strategy context.", gameId);
+            return new StrategyContext(gameId);
+        }
+
+        return context;
+    }
 
     @Override
-    public void processInvestigation(Investigation investigation) {
-        LOGGER.info("Processing investigation results: {}", investigation);
+    public void releaseContext(String gameId) {
+        if (gameId == null) {
+            return;
+        }
+
+        if (contexts.remove(gameId) != null) {
+            LOGGER.debug("Released strategy context for GameID={}. Active contexts: {}", gameId, contexts.size());
+        }
+    }
+
+    @Override
+    public void processInvestigation(String gameId, Investigation investigation) {
+        LOGGER.info("Processing investigation results for GameID={}: {}", gameId, investigation);
+
+        StrategyContext context = getContext(gameId);
 
         int people = investigation.getPeople();
         int state = investigation.getState();
@@ -38,9 +91,9 @@ public class StrategyServiceImpl implements StrategyService {
         if (total == 0) {
             LOGGER.warn("Investigation totals to zero. Setting default multipliers.");
 
-            this.peopleMultiplier = 1.0;
-            this.stateMultiplier = 1.0;
-            this.underworldMultiplier = 1.0;
+            context.setPeopleMultiplier(1.0);
+            context.setStateMultiplier(1.0);
+            context.setUnderworldMultiplier(1.0);
 
             return;
         }
@@ -52,12 +105,12 @@ public class StrategyServiceImpl implements StrategyService {
         LOGGER.debug("Proportions - People: {}, State: {}, Underworld: {}",
                 peopleProportion, stateProportion, underworldProportion);
 
-        this.peopleMultiplier = peopleProportion;
-        this.stateMultiplier = stateProportion;
-        this.underworldMultiplier = underworldProportion;
+        context.setPeopleMultiplier(peopleProportion);
+        context.setStateMultiplier(stateProportion);
+        context.setUnderworldMultiplier(underworldProportion);
 
         LOGGER.info("Adjusted multipliers - People: {}, State: {}, Underworld: {}",
-                peopleMultiplier, stateMultiplier, underworldMultiplier);
+                peopleProportion, stateProportion, underworldProportion);
     }
 
     @Override
@@ -67,32 +120,30 @@ public class StrategyServiceImpl implements StrategyService {
             return null;
         }
 
-        List<Message> unsolvedMessages = messages.stream()
-                .filter(message -> !solvedMessageIds.contains(message.getDecodedAdId()))
-                .toList();
+        Message selectedMessage = createMessageBoard(messages, game).poll();
 
-        if (unsolvedMessages.isEmpty()) {
+        if (selectedMessage == null) {
             LOGGER.info("All messages have been solved.");
-            return null;
+        } else {
+            LOGGER.debug("Chosen message ID: {}", selectedMessage.getDecodedAdId());
         }
 
-        List<MessageWithScore> scoredMessages = unsolvedMessages.stream()
-                .map(message -> new MessageWithScore(message, computeDifficultyScore(message, game)))
-                .toList();
+        return selectedMessage;
+    }
 
-        Optional<MessageWithScore> bestMessage = scoredMessages.stream()
-                .max(Comparator.comparingDouble(messageWithScore -> messageWithScore.message().getIntReward() / messageWithScore.score()));
+    @Override
+    public MessageBoard createMessageBoard(List<Message> messages, Game game) {
+        StrategyContext context = getContext(game.getGameId());
+        Set<String> solvedMessageIds = context.getSolvedMessageIds();
 
-        if (bestMessage.isPresent()) {
-            Message selectedMessage = bestMessage.get().message();
+        List<Message> unsolvedMessages = messages == null ? List.of() : messages.stream()
+                .filter(message -> !solvedMessageIds.contains(message.getDecodedAdId()))
+                .toList();
 
-            LOGGER.debug("Chosen message ID: {} with difficulty score: {}", selectedMessage.getDecodedAdId(),
-                    bestMessage.get().score());
-            return selectedMessage;
-        } else {
-            LOGGER.info("No suitable messages found after scoring.");
-            return null;
-        }
+        return new MessageBoard(unsolvedMessages,
+                message -> messageScorer.score(message, game, context),
+                () -> messageScorer.scoringState(game, context),
+                message -> solvedMessageIds.contains(message.getDecodedAdId()));
     }
 
     @Override
@@ -102,63 +153,11 @@ public class StrategyServiceImpl implements StrategyService {
             return Collections.emptyList();
         }
 
-        Set<String> requiredItemIds = new HashSet<>(List.of(
-                "hpot",       // Healing potion
-                "cs",         // Claw Sharpening
-                "gas",        // Gasoline
-                "wax",        // Copper Plating
-                "tricks",     // Book of Tricks
-                "wingpot",    // Potion of Stronger Wings
-                "ch",         // Claw Honing
-                "rf",         // Rocket Fuel
-                "iron",       // Iron Plating
-                "mtrix",      // Book of Megatricks
-                "wingpotmax"  // Potion of Awesome Wings
-        ));
-
-        List<ShopItem> requiredItems = shopItems.stream()
-                .filter(item -> requiredItemIds.contains(item.getId()))
-                .toList();
-
-        // Sort required items by descending score (higher score = higher priority)
-        List<ShopItemWithScore> scoredRequiredItems = requiredItems.stream()
-                .map(item -> new ShopItemWithScore(item, computeShopItemScore(item)))
-                .sorted(Comparator.comparingDouble(ShopItemWithScore::score).reversed()).toList();
-
-        List<ShopItem> selectedItems = new ArrayList<>();
-        double remainingGold = game.getGold();
-
-        for (ShopItemWithScore scoredItem : scoredRequiredItems) {
-            ShopItem item = scoredItem.shopItem();
-
-            if (item.getCost() <= remainingGold) {
-                selectedItems.add(item);
-                remainingGold -= item.getCost();
-
-                LOGGER.debug("Selected required item '{}' for purchase. Remaining gold: {}",
-                        item.getName(), remainingGold);
-            }
-        }
-
-        double finalRemainingGold = remainingGold;
-        List<ShopItem> additionalItems = shopItems.stream()
-                .filter(item -> !requiredItemIds.contains(item.getId()))
-                .sorted(Comparator.comparingDouble(this::computeBenefitPerGold).reversed())
-                .filter(item -> item.getCost() <= finalRemainingGold)
-                .toList();
-
-        for (ShopItem item : additionalItems) {
-            if (item.getCost() <= remainingGold) {
-                selectedItems.add(item);
-                remainingGold -= item.getCost();
-
-                LOGGER.debug("Selected additional item '{}' for purchase. Remaining gold: {}",
-                        item.getName(), remainingGold);
-            }
-        }
+        List<ShopItem> selectedItems = shopOptimizer.optimize(shopItems, game.getGold(), game.getLives(),
+                game.getLevel());
 
         if (selectedItems.isEmpty()) {
-            LOGGER.info("No required or additional shop items selected based on current strategy.");
+            LOGGER.info("No shop items selected based on current strategy.");
         } else {
             LOGGER.debug("Selected shop items to buy: {}", selectedItems);
         }
@@ -167,82 +166,19 @@ public class StrategyServiceImpl implements StrategyService {
     }
 
     @Override
-    public void markMessageAsSolved(String adId) {
+    public void markMessageAsSolved(String gameId, String adId) {
         if (adId == null || adId.isEmpty()) {
             LOGGER.warn("Attempted to mark an invalid message ID as solved: '{}'", adId);
             return;
         }
 
-        solvedMessageIds.add(adId);
-        LOGGER.debug("Marked message ID '{}' as solved.", adId);
+        getContext(gameId).getSolvedMessageIds().add(adId);
+        LOGGER.debug("Marked message ID '{}' as solved for GameID={}.", adId, gameId);
     }
 
     @Override
-    public void recordFailure(String adId) {
-        failureCounts.put(adId, failureCounts.getOrDefault(adId, 0) + 1);
-        LOGGER.debug("Recorded failure for message ID '{}'. Total failures: {}", adId, failureCounts.get(adId));
-    }
-
-    // PRIVATE METHODS //
-    private double computeDifficultyScore(Message message, Game game) {
-        int reward = message.getIntReward();
-        int expiresIn = message.getExpiresIn();
-
-        if (expiresIn <= 0) {
-            LOGGER.warn("Message '{}' has non-positive expiresIn: {}. Assigning maximum difficulty.",
-                    message.getDecodedAdId(), expiresIn);
-
-            return Double.MAX_VALUE; // Highest difficulty
-        }
-
-        // Base difficulty score: higher reward and lower expiresIn imply easier messages
-        double baseDifficulty = (double) reward / expiresIn;
-
-        double dragonLevel = game.getDragonLevel();
-
-        double adjustedDifficulty =
-                baseDifficulty * (peopleMultiplier + stateMultiplier + underworldMultiplier) / dragonLevel;
-
-        int failures = failureCounts.getOrDefault(message.getDecodedAdId(), 0);
-        adjustedDifficulty += failures * 0.5; // Example: each failure adds 0.5 to difficulty
-
-        LOGGER.debug("Computed difficulty score for message '{}': {} (Failures: {}, Dragon Level: {})",
-                message.getDecodedAdId(), adjustedDifficulty, failures, dragonLevel);
-
-        return adjustedDifficulty;
-    }
-
-    private double computeBenefitPerGold(ShopItem item) {
-        return switch (item.getId().toLowerCase()) {
-            case "hpot" -> 0.05;         // Healing Potion - Low-cost survival boost
-            case "cs" -> 0.04;           // Claw Sharpening - Attack enhancement
-            case "gas" -> 0.03;          // Gasoline - Fire attack boost
-            case "wax" -> 0.02;          // Copper Plating - Defensive improvement
-            case "tricks" -> 0.04;       // Book of Tricks - Skill boost
-            case "wingpot" -> 0.06;      // Potion of Stronger Wings - Mobility enhancement
-            case "ch" -> 0.07;           // Claw Honing - Advanced attack power
-            case "rf" -> 0.06;           // Rocket Fuel - Attack speed boost
-            case "iron" -> 0.05;         // Iron Plating - Strong defense
-            case "mtrix" -> 0.08;        // Book of Megatricks - Major skill upgrade
-            case "wingpotmax" -> 0.09;   // Potion of Awesome Wings - Maximum mobility
-
-            default -> 0.0;              // Unknown items have no benefit
-        };
-    }
-
-    private double computeShopItemScore(ShopItem item) {
-        double cost = item.getCost();
-
-        if (cost <= 0) {
-            LOGGER.warn("Shop item '{}' has non-positive cost: {}. Assigning minimum score.", item.getName(), cost);
-            return 0.0;
-        }
-
-        // Formula: Higher cost and higher multipliers increase the score
-        double score = cost * (peopleMultiplier + stateMultiplier + underworldMultiplier);
-
-        LOGGER.debug("Computed score for shop item '{}': {}", item.getName(), score);
-
-        return score;
+    public void recordFailure(String gameId, String adId) {
+        int failures = getContext(gameId).getFailureCounts().merge(adId, 1, Integer::sum);
+        LOGGER.debug("Recorded failure for message ID '{}' in GameID={}. Total failures: {}", adId, gameId, failures);
     }
-}
\ No newline at end of file
+}
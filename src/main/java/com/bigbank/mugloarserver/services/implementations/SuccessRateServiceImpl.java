@@ -0,0 +1,91 @@
+package com.bigbank.mugloarserver.services.implementations;
+
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+import com.bigbank.mugloarserver.models.ProbabilityOutcome;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.SuccessRateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of SuccessRateService. Success rates are kept in an array indexed by ProbabilityLabel ordinal, which
+ * is replaced as a whole on refresh. Observed outcomes are blended with each label's prior, weighted as a configurable
+ * number of pseudo-attempts, so rarely seen labels do not swing to 0 or 1.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Service
+public class SuccessRateServiceImpl implements SuccessRateService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SuccessRateServiceImpl.class);
+
+    private final GameResultRepository gameResultRepository;
+    private final double priorWeight;
+    private final AtomicLong version = new AtomicLong();
+    private volatile double[] successRates;
+
+    public SuccessRateServiceImpl(GameResultRepository gameResultRepository,
+                                  @Value("${mugloar.strategy.success-rates.prior-weight:20}") double priorWeight) {
+        this.gameResultRepository = gameResultRepository;
+        this.priorWeight = priorWeight;
+
+        double[] priors = new double[ProbabilityLabel.values().length];
+
+        for (ProbabilityLabel probabilityLabel : ProbabilityLabel.values()) {
+            priors[probabilityLabel.ordinal()] = probabilityLabel.getPriorSuccessRate();
+        }
+
+        this.successRates = priors;
+    }
+
+    @Override
+    public double getSuccessRate(ProbabilityLabel probabilityLabel) {
+        return successRates[probabilityLabel.ordinal()];
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${mugloar.strategy.success-rates.refresh-interval:5m}")
+    public void refresh() {
+        List<ProbabilityOutcome> outcomes;
+
+        try {
+            outcomes = gameResultRepository.findProbabilityOutcomes();
+        } catch (Exception e) {
+            LOGGER.error("Failed to load message outcomes: {}. Keeping current success rates.", e.getMessage(), e);
+            return;
+        }
+
+        long[] attempts = new long[ProbabilityLabel.values().length];
+        long[] successes = new long[attempts.length];
+
+        for (ProbabilityOutcome outcome : outcomes) {
+            int index = ProbabilityLabel.fromLabel(outcome.getProbability()).ordinal();
+            attempts[index] += outcome.getAttempts();
+            successes[index] += outcome.getSuccesses();
+        }
+
+        double[] refreshed = new double[attempts.length];
+
+        for (ProbabilityLabel probabilityLabel : ProbabilityLabel.values()) {
+            int index = probabilityLabel.ordinal();
+            refreshed[index] = (successes[index] + probabilityLabel.getPriorSuccessRate() * priorWeight) /
+                    (attempts[index] + priorWeight);
+        }
+
+        successRates = refreshed;
+        version.incrementAndGet();
+
+        LOGGER.debug("Refreshed message success rates from {} probability labels.", outcomes.size());
+    }
+}
@@ -0,0 +1,176 @@
+package com.bigbank.mugloarserver.simulator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An embedded, seedable stand-in for the Mugloar API, served by Reactor Netty. It implements game start, reputation
+ * investigation, the message board, solving, the shop and buying, with success drawn from each ad's probability label
+ * and a log-normal response latency. Pointing mugloar.api.base-url at it lets thousands of concurrent games run on one
+ * machine without calling the public service.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class MugloarSimulator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MugloarSimulator.class);
+    private static final byte[] GAME_OVER = "{\"status\":\"Game Over\"}".getBytes();
+
+    private final Map<String, SimulatedGame> games = new ConcurrentHashMap<>();
+    private final AtomicLong gameSequence = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long seed;
+    private final Duration latencyMedian;
+    private final double latencySigma;
+    private final int boardSize;
+    private final int maxTurns;
+
+    private DisposableServer server;
+
+    public MugloarSimulator(long seed, Duration latencyMedian, double latencySigma, int boardSize, int maxTurns) {
+        this.seed = seed;
+        this.latencyMedian = latencyMedian;
+        this.latencySigma = latencySigma;
+        this.boardSize = boardSize;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Starts serving the simulated API.
+     *
+     * @param host Host to bind to.
+     * @param port Port to bind to, or 0 for any free port.
+     * @return the port the simulator is bound to
+     */
+    public synchronized int start(String host, int port) {
+        if (server != null) {
+            return server.port();
+        }
+
+        server = HttpServer.create()
+                .host(host)
+                .port(port)
+                .route(routes -> routes
+                        .post("/game/start", (request, response) -> startGame(response))
+                        .post("/{gameId}/investigate/reputation", (request, response) ->
+                                respond(request, response, SimulatedGame::investigate))
+                        .get("/{gameId}/messages", (request, response) ->
+                                respond(request, response, SimulatedGame::messages))
+                        .post("/{gameId}/solve/{adId}", (request, response) ->
+                                respond(request, response, game -> game.solve(request.param("adId"))))
+                        .get("/{gameId}/shop", (request, response) ->
+                                respond(request, response, SimulatedGame::shop))
+                        .post("/{gameId}/shop/buy/{itemId}", (request, response) ->
+                                respond(request, response, game -> game.buy(request.param("itemId")))))
+                .bindNow();
+
+        LOGGER.info("Mugloar simulator listening on {}:{} (seed={}, latency median={}, sigma={})", host,
+                server.port(), seed, latencyMedian, latencySigma);
+
+        return server.port();
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+            LOGGER.info("Mugloar simulator stopped after {} games.", gameSequence.get());
+        }
+    }
+
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Mugloar simulator is not running.");
+        }
+
+        return server.port();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public int getActiveGameCount() {
+        return games.size();
+    }
+
+    public long getStartedGameCount() {
+        return gameSequence.get();
+    }
+
+    // PRIVATE METHODS //
+    private Publisher<Void> startGame(HttpServerResponse response) {
+        long gameNumber = gameSequence.incrementAndGet();
+        // Spread game numbers over the seed space so consecutive games do not get correlated generators
+        SimulatedGame game = new SimulatedGame("sim-" + gameNumber, seed ^ (gameNumber * 0x9E3779B97F4A7C15L),
+                boardSize, maxTurns);
+        games.put(game.getGameId(), game);
+
+        return send(response, HttpResponseStatus.OK, toJson(game.start()), game.nextLatency(latencyMedian,
+                latencySigma));
+    }
+
+    /**
+     * Games are forgotten as soon as they end. Like the live API, any later call for them answers Game Over.
+     */
+    private Publisher<Void> respond(HttpServerRequest request, HttpServerResponse response,
+                                    Function<SimulatedGame, Object> action) {
+        SimulatedGame game = games.get(request.param("gameId"));
+
+        if (game == null) {
+            return send(response, HttpResponseStatus.GONE, GAME_OVER, Duration.ZERO);
+        }
+
+        Duration latency = game.nextLatency(latencyMedian, latencySigma);
+        Object body;
+
+        synchronized (game) {
+            if (game.isOver()) {
+                games.remove(game.getGameId());
+                return send(response, HttpResponseStatus.GONE, GAME_OVER, latency);
+            }
+
+            body = action.apply(game);
+        }
+
+        if (body == null) {
+            return send(response, HttpResponseStatus.BAD_REQUEST,
+                    toJson(Map.of("error", "No ad or item by this ID exists")), latency);
+        }
+
+        return send(response, HttpResponseStatus.OK, toJson(body), latency);
+    }
+
+    private Publisher<Void> send(HttpServerResponse response, HttpResponseStatus status, byte[] body,
+                                 Duration latency) {
+        Mono<byte[]> delayedBody = latency.isZero() ? Mono.just(body) : Mono.delay(latency).thenReturn(body);
+
+        return response.status(status)
+                .header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .sendByteArray(delayedBody);
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write simulator response", e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.bigbank.mugloarserver.simulator;
+
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * State of one game played against MugloarSimulator. Every random draw comes from generators seeded per game, so the
+ * same seed and the same sequence of calls always play out the same way, however many games run next to it.
+ * Latency is drawn from its own generator, so changing the latency settings does not change the game.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+final class SimulatedGame {
+    private static final int STARTING_LIVES = 3;
+    private static final int MIN_EXPIRES_IN = 1;
+    private static final int MAX_EXPIRES_IN = 8;
+    private static final double SKILL_BONUS = 0.02;
+    private static final double MAX_SUCCESS_RATE = 0.99;
+    private static final double MAX_LATENCY_FACTOR = 20.0;
+
+    // Labels an ad is drawn from, UNKNOWN excluded
+    private static final ProbabilityLabel[] LABELS = Arrays.stream(ProbabilityLabel.values())
+            .filter(label -> label != ProbabilityLabel.UNKNOWN)
+            .toArray(ProbabilityLabel[]::new);
+
+    private static final List<ShopItemView> SHOP = List.of(
+            new ShopItemView("hpot", "Healing potion", 50),
+            new ShopItemView("cs", "Claw Sharpening", 100),
+            new ShopItemView("gas", "Gasoline", 100),
+            new ShopItemView("wax", "Copper Plating", 100),
+            new ShopItemView("tricks", "Book of Tricks", 100),
+            new ShopItemView("wingpot", "Potion of Stronger Wings", 100),
+            new ShopItemView("ch", "Claw Honing", 300),
+            new ShopItemView("rf", "Rocket Fuel", 300),
+            new ShopItemView("iron", "Iron Plating", 300),
+            new ShopItemView("mtrix", "Book of Megatricks", 300),
+            new ShopItemView("wingpotmax", "Potion of Awesome Wings", 300));
+
+    private final String gameId;
+    private final Random random;
+    private final Random latencyRandom;
+    private final int boardSize;
+    private final int maxTurns;
+    private final Map<String, Ad> board = new LinkedHashMap<>();
+
+    private int lives = STARTING_LIVES;
+    private int gold;
+    private int level;
+    private int score;
+    private int turn;
+    private int adSequence;
+    private boolean over;
+
+    SimulatedGame(String gameId, long seed, int boardSize, int maxTurns) {
+        this.gameId = gameId;
+        this.random = new Random(seed);
+        this.latencyRandom = new Random(~seed);
+        this.boardSize = boardSize;
+        this.maxTurns = maxTurns;
+    }
+
+    String getGameId() {
+        return gameId;
+    }
+
+    synchronized boolean isOver() {
+        return over;
+    }
+
+    synchronized GameView start() {
+        return new GameView(gameId, lives, gold, level, score, score, turn);
+    }
+
+    synchronized ReputationView investigate() {
+        advanceTurn();
+        return new ReputationView(random.nextInt(10), random.nextInt(10), random.nextInt(10));
+    }
+
+    synchronized List<AdView> messages() {
+        board.values().removeIf(ad -> ad.expiresAtTurn <= turn);
+
+        while (board.size() < boardSize) {
+            Ad ad = newAd();
+            board.put(ad.adId, ad);
+        }
+
+        List<AdView> ads = new ArrayList<>(board.size());
+
+        for (Ad ad : board.values()) {
+            ads.add(ad.toView(turn));
+        }
+
+        return ads;
+    }
+
+    /**
+     * @return the outcome, or null if no ad with this id is on the board
+     */
+    synchronized SolveView solve(String adId) {
+        Ad ad = board.remove(adId);
+
+        if (ad == null || ad.expiresAtTurn <= turn) {
+            return null;
+        }
+
+        double successRate = Math.min(ad.label.getPriorSuccessRate() + level * SKILL_BONUS, MAX_SUCCESS_RATE);
+        boolean success = random.nextDouble() < successRate;
+        String message;
+
+        if (success) {
+            gold += ad.reward;
+            score += ad.reward;
+            message = "You successfully solved the mission!";
+        } else {
+            lives--;
+            message = "You have failed the mission and lost a life.";
+        }
+
+        advanceTurn();
+
+        return new SolveView(success, lives, gold, score, score, turn, message);
+    }
+
+    synchronized List<ShopItemView> shop() {
+        return SHOP;
+    }
+
+    /**
+     * @return the outcome, or null if the shop has no item with this id
+     */
+    synchronized PurchaseView buy(String itemId) {
+        ShopItemView item = SHOP.stream().filter(shopItem -> shopItem.id().equals(itemId)).findFirst().orElse(null);
+
+        if (item == null) {
+            return null;
+        }
+
+        boolean affordable = gold >= item.cost();
+
+        if (affordable) {
+            gold -= item.cost();
+
+            if ("hpot".equals(item.id())) {
+                lives++;
+            } else {
+                level += item.cost() / 100;
+            }
+        }
+
+        advanceTurn();
+
+        return new PurchaseView(String.valueOf(affordable), gold, lives, level, turn);
+    }
+
+    /**
+     * Log-normal around the median, which gives the long right tail of real network latencies, capped at
+     * MAX_LATENCY_FACTOR times the median.
+     */
+    synchronized Duration nextLatency(Duration median, double sigma) {
+        if (median.isZero()) {
+            return Duration.ZERO;
+        }
+
+        double factor = Math.min(Math.exp(sigma * latencyRandom.nextGaussian()), MAX_LATENCY_FACTOR);
+        return Duration.ofNanos((long) (median.toNanos() * factor));
+    }
+
+    // PRIVATE METHODS //
+    private void advanceTurn() {
+        turn++;
+
+        if (lives <= 0 || turn >= maxTurns) {
+            over = true;
+        }
+    }
+
+    private Ad newAd() {
+        ProbabilityLabel label = LABELS[random.nextInt(LABELS.length)];
+        // Riskier ads pay more, as on the live message board
+        int reward = (int) Math.round((1.0 - label.getPriorSuccessRate()) * 150) + 1 + random.nextInt(40);
+        int expiresIn = MIN_EXPIRES_IN + random.nextInt(MAX_EXPIRES_IN - MIN_EXPIRES_IN + 1);
+        boolean encrypted = random.nextInt(5) == 0;
+
+        return new Ad(gameId + "-ad" + (++adSequence), "Help defend village #" + adSequence, reward,
+                turn + expiresIn, encrypted, label);
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Ad(String adId, String message, int reward, int expiresAtTurn, boolean encrypted,
+                      ProbabilityLabel label) {
+        AdView toView(int turn) {
+            return new AdView(encrypted ? encode(adId) : adId, encrypted ? encode(message) : message, reward,
+                    expiresAtTurn - turn, encrypted ? 1 : null, label.getLabel());
+        }
+    }
+
+    record GameView(String gameId, int lives, int gold, int level, int score, int highScore, int turn) {
+    }
+
+    record ReputationView(int people, int state, int underworld) {
+    }
+
+    record AdView(String adId, String message, int reward, int expiresIn, Integer encrypted, String probability) {
+    }
+
+    record SolveView(boolean success, int lives, int gold, int score, int highScore, int turn, String message) {
+    }
+
+    record ShopItemView(String id, String name, int cost) {
+    }
+
+    record PurchaseView(String shoppingSuccess, int gold, int lives, int level, int turn) {
+    }
+}
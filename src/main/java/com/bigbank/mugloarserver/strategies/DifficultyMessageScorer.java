@@ -0,0 +1,62 @@
+package com.bigbank.mugloarserver.strategies;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.StrategyContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * MessageScorer that ranks messages by reward per difficulty, where difficulty grows with reward per turn left, the
+ * investigation multipliers and earlier failures, and shrinks with the dragon level.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Component("difficulty")
+public class DifficultyMessageScorer implements MessageScorer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DifficultyMessageScorer.class);
+
+    @Override
+    public double score(Message message, Game game, StrategyContext context) {
+        return message.getIntReward() / computeDifficultyScore(message, game, context);
+    }
+
+    /**
+     * Difficulty scales with totalMultiplier / dragonLevel for every message alike. Failures only change the score of
+     * the message just attempted, which has already left the board.
+     */
+    @Override
+    public double scoringState(Game game, StrategyContext context) {
+        return context.getTotalMultiplier() / game.getDragonLevel();
+    }
+
+    // PRIVATE METHODS //
+    private double computeDifficultyScore(Message message, Game game, StrategyContext context) {
+        int reward = message.getIntReward();
+        int expiresIn = message.getExpiresIn();
+
+        if (expiresIn <= 0) {
+            LOGGER.warn("Message '{}' has non-positive expiresIn: {}. Assigning maximum difficulty.",
+                    message.getDecodedAdId(), expiresIn);
+
+            return Double.MAX_VALUE; // Highest difficulty
+        }
+
+        // Base difficulty score: higher reward and lower expiresIn imply easier messages
+        double baseDifficulty = (double) reward / expiresIn;
+
+        double dragonLevel = game.getDragonLevel();
+
+        double adjustedDifficulty = baseDifficulty * context.getTotalMultiplier() / dragonLevel;
+
+        int failures = context.getFailureCounts().getOrDefault(message.getDecodedAdId(), 0);
+        adjustedDifficulty += failures * 0.5; // Example: each failure adds 0.5 to difficulty
+
+        LOGGER.debug("Computed difficulty score for message '{}': {} (Failures: {}, Dragon Level: {})",
+                message.getDecodedAdId(), adjustedDifficulty, failures, dragonLevel);
+
+        return adjustedDifficulty;
+    }
+}
@@ -0,0 +1,44 @@
+package com.bigbank.mugloarserver.strategies;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.StrategyContext;
+import com.bigbank.mugloarserver.services.SuccessRateService;
+import org.springframework.stereotype.Component;
+
+/**
+ * MessageScorer that ranks messages by expected reward per life risked: the success rate of the message's probability
+ * label times its reward, divided by the chance of losing a life on it.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Component("expectedValue")
+public class ExpectedValueMessageScorer implements MessageScorer {
+    // Keeps near-certain messages from dividing by zero while still ranking them by reward
+    private static final double MIN_RISK = 0.01;
+
+    private final SuccessRateService successRateService;
+
+    public ExpectedValueMessageScorer(SuccessRateService successRateService) {
+        this.successRateService = successRateService;
+    }
+
+    @Override
+    public double score(Message message, Game game, StrategyContext context) {
+        if (message.getExpiresIn() <= 0) {
+            return 0.0;
+        }
+
+        double successRate = successRateService.getSuccessRate(message.getProbabilityLabel());
+        double expectedReward = successRate * message.getIntReward();
+        double livesRisked = 1.0 - successRate;
+
+        return expectedReward / Math.max(livesRisked, MIN_RISK);
+    }
+
+    @Override
+    public double scoringState(Game game, StrategyContext context) {
+        return successRateService.getVersion();
+    }
+}
@@ -0,0 +1,34 @@
+package com.bigbank.mugloarserver.strategies;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.StrategyContext;
+
+/**
+ * Scores messages for StrategyService. Implementations are Spring beans, selected by bean name through the
+ * 'mugloar.strategy.message-scorer' property.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public interface MessageScorer {
+    /**
+     * Scores a message for the current game state, higher is better.
+     *
+     * @param message The message to score.
+     * @param game    The current game state.
+     * @param context The strategy context of the game.
+     * @return The score of the message.
+     */
+    double score(Message message, Game game, StrategyContext context);
+
+    /**
+     * A value that changes whenever this scorer would score the same messages differently, so a scored MessageBoard
+     * knows when it has to be re-scored.
+     *
+     * @param game    The current game state.
+     * @param context The strategy context of the game.
+     * @return The current scoring state.
+     */
+    double scoringState(Game game, StrategyContext context);
+}
@@ -0,0 +1,151 @@
+package com.bigbank.mugloarserver.strategies;
+
+import com.bigbank.mugloarserver.models.ShopItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Chooses which shop items to buy by solving a 0/1 knapsack over (cost, benefit), with the game's gold as capacity.
+ * Benefits come from a static item table: skill items are worth their stat gain, weighted up with the dragon's level
+ * since later quests are harder, and the healing potion is worth more the fewer lives the dragon has left. Items
+ * missing from the table get a token benefit, so leftover gold is still spent on them.
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@Component
+public class ShopOptimizer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShopOptimizer.class);
+
+    // The chosen set per capacity is kept as a bitmask, which bounds the items considered per call
+    private static final int MAX_ITEMS = Long.SIZE;
+    private static final double UNKNOWN_ITEM_BENEFIT = 0.001;
+    private static final int SAFE_LIVES = 3;
+    private static final double SKILL_WEIGHT_PER_LEVEL = 0.1;
+
+    public List<ShopItem> optimize(List<ShopItem> shopItems, double gold, int lives, int level) {
+        int itemCount = Math.min(shopItems.size(), MAX_ITEMS);
+
+        if (shopItems.size() > MAX_ITEMS) {
+            LOGGER.warn("Shop offers {} items. Only the first {} are considered.", shopItems.size(), MAX_ITEMS);
+        }
+
+        int capacity = (int) Math.max(0, Math.min(Math.floor(gold), Integer.MAX_VALUE - 1));
+        int[] costs = new int[itemCount];
+        double[] benefits = new double[itemCount];
+        long totalCost = 0;
+        int costUnit = 0;
+        double skillWeight = 1.0 + Math.max(level, 0) * SKILL_WEIGHT_PER_LEVEL;
+
+        for (int i = 0; i < itemCount; i++) {
+            ShopItem item = shopItems.get(i);
+            costs[i] = (int) Math.ceil(item.getCost());
+            benefits[i] = item.getCost() > 0 ? computeBenefit(item.getId(), lives, skillWeight) : 0.0;
+            totalCost += Math.max(costs[i], 0);
+
+            if (costs[i] > 0) {
+                costUnit = gcd(costUnit, costs[i]);
+            }
+        }
+
+        // Everything affordable at once: no need to fill a table
+        if (totalCost <= capacity) {
+            return collect(shopItems, costs, benefits, -1L);
+        }
+
+        // Shop prices share a common unit (multiples of 50 on the live API), which shrinks the table accordingly
+        capacity /= costUnit;
+
+        for (int i = 0; i < itemCount; i++) {
+            costs[i] /= costUnit;
+        }
+
+        double[] bestBenefit = new double[capacity + 1];
+        long[] chosen = new long[capacity + 1];
+
+        for (int i = 0; i < itemCount; i++) {
+            int cost = costs[i];
+            double benefit = benefits[i];
+
+            if (benefit <= 0 || cost > capacity) {
+                continue;
+            }
+
+            for (int budget = capacity; budget >= cost; budget--) {
+                double candidate = bestBenefit[budget - cost] + benefit;
+
+                if (candidate > bestBenefit[budget]) {
+                    bestBenefit[budget] = candidate;
+                    chosen[budget] = chosen[budget - cost] | (1L << i);
+                }
+            }
+        }
+
+        return collect(shopItems, costs, benefits, chosen[capacity]);
+    }
+
+    // PRIVATE METHODS //
+    private List<ShopItem> collect(List<ShopItem> shopItems, int[] costs, double[] benefits, long mask) {
+        List<ShopItem> selectedItems = null;
+
+        for (int i = 0; i < costs.length; i++) {
+            if ((mask & (1L << i)) != 0 && benefits[i] > 0) {
+                if (selectedItems == null) {
+                    selectedItems = new ArrayList<>();
+                }
+
+                selectedItems.add(shopItems.get(i));
+            }
+        }
+
+        return selectedItems == null ? Collections.emptyList() : selectedItems;
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    private double computeBenefit(String itemId, int lives, double skillWeight) {
+        if (itemId == null) {
+            return UNKNOWN_ITEM_BENEFIT;
+        }
+
+        return switch (itemId) {
+            case "hpot" -> computeHealingBenefit(lives);    // Healing Potion - one extra life
+
+            case "cs",                                      // Claw Sharpening
+                 "gas",                                     // Gasoline
+                 "wax",                                     // Copper Plating
+                 "tricks",                                  // Book of Tricks
+                 "wingpot" -> skillWeight;                  // Potion of Stronger Wings
+
+            case "ch",                                      // Claw Honing
+                 "rf",                                      // Rocket Fuel
+                 "iron",                                    // Iron Plating
+                 "mtrix",                                   // Book of Megatricks
+                 "wingpotmax" -> 2.0 * skillWeight;         // Potion of Awesome Wings
+
+            default -> UNKNOWN_ITEM_BENEFIT;
+        };
+    }
+
+    private double computeHealingBenefit(int lives) {
+        if (lives >= SAFE_LIVES) {
+            return 0.5;
+        }
+
+        // One life left outweighs any set of skill items the dragon could afford instead
+        return lives <= 1 ? 100.0 : 2.5;
+    }
+}
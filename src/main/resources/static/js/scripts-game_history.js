@@ -1,11 +1,11 @@
 $(document).ready(function () {
     $('#gameHistoryTable').DataTable({
-        "paging": true,
+        // Pages come from the server, newest first
+        "paging": false,
         "lengthChange": false,
-        "pageLength": 10,
         "searching": false,
-        "ordering": true,
-        "info": true,
+        "ordering": false,
+        "info": false,
         "autoWidth": false,
         "responsive": true
     });
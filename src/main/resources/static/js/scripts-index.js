@@ -5,6 +5,7 @@ document.addEventListener('DOMContentLoaded', function () {
     const statusSpinner = document.getElementById('statusSpinner');
     let stompClient = null;
     let gameId = null;
+    let lastSequence = 0;
 
     startGameBtn.addEventListener('click', function () {
         startGameBtn.disabled = true;
@@ -56,10 +57,9 @@ document.addEventListener('DOMContentLoaded', function () {
 
         stompClient.connect({}, function (frame) {
             console.log('Connected: ' + frame);
-            stompClient.subscribe('/topic/game-status/' + gameId, function (messageOutput) {
-                const gameState = JSON.parse(messageOutput.body);
-                handleGameState(gameState);
-            });
+            stompClient.subscribe('/topic/game-status/' + gameId, handleFrame);
+            // Replays the updates sent before this subscription; the topic may already have delivered some of them
+            stompClient.subscribe('/app/game-status/' + gameId, handleFrame);
 
             stompClient.send("/app/game-start", {}, JSON.stringify({'gameId': gameId}));
         }, function (error) {
@@ -72,6 +72,28 @@ document.addEventListener('DOMContentLoaded', function () {
         });
     }
 
+    /**
+     * Handles a frame of game state messages, skipping the ones already handled.
+     *
+     * @param {Object} messageOutput - The STOMP message carrying an array of game states, oldest first.
+     */
+    function handleFrame(messageOutput) {
+        const payload = JSON.parse(messageOutput.body);
+        const gameStates = Array.isArray(payload) ? payload : [payload];
+
+        gameStates.forEach(gameState => {
+            if (gameState && gameState.sequence) {
+                if (gameState.sequence <= lastSequence) {
+                    return;
+                }
+
+                lastSequence = gameState.sequence;
+            }
+
+            handleGameState(gameState);
+        });
+    }
+
     /**
      * Handles incoming game state messages from the backend.
      *
@@ -153,6 +175,14 @@ document.addEventListener('DOMContentLoaded', function () {
                     window.location.href = `/game/${gameId}`;
                 }, 3000);
                 break;
+            case 'game_cancelled':
+                updateStatus('Game cancelled. Saving the partial result...');
+                showSpinner();
+                break;
+            case 'game_budget_exceeded':
+                updateStatus('Game stopped: ' + gameState.message);
+                showSpinner();
+                break;
             case 'no_messages_available':
                 updateStatus('No messages available to solve.');
                 hideSpinner();
@@ -197,6 +227,9 @@ document.addEventListener('DOMContentLoaded', function () {
                 updateStatus('Game result already exists. Skipping save.');
                 hideSpinner();
                 break;
+            case 'game_result_queued':
+                updateStatus('Game result queued for saving.');
+                break;
             case 'game_result_saved':
                 updateStatus('Game result saved successfully.');
                 hideSpinner();
@@ -13,6 +13,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -53,6 +55,22 @@ public class GameControllerIntegrationTest {
                 .andExpect(view().name("result"));
     }
 
+    @Test
+    void displayResult_NotModified() throws Exception {
+        GameResult gr = new GameResult();
+        gr.setGameId("etagIntegrationId");
+        gr.setTimestamp(LocalDateTime.now());
+        gameResultService.save(gr);
+
+        String etag = mockMvc.perform(get("/game/etagIntegrationId"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/game/etagIntegrationId").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void displayResult_Invalid() throws Exception {
         mockMvc.perform(get("/game/invalidGameIdIntegration"))
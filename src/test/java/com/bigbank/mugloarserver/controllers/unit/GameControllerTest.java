@@ -1,26 +1,39 @@
 package com.bigbank.mugloarserver.controllers.unit;
 
 import com.bigbank.mugloarserver.controllers.GameController;
+import com.bigbank.mugloarserver.exceptions.GameRejectedException;
 import com.bigbank.mugloarserver.facades.GameFacade;
 import com.bigbank.mugloarserver.models.Game;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
 import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameRunnerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for GameController
@@ -38,12 +51,20 @@ public class GameControllerTest {
     @Mock
     private GameResultService gameResultService;
 
+    @Mock
+    private GameRunnerService gameRunnerService;
+
     @Mock
     private Model model;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(gameRunnerService).submit(any(Game.class), any(Runnable.class));
     }
 
     @Test
@@ -55,6 +76,37 @@ public class GameControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertTrue(Objects.requireNonNull(response.getBody()).toString().contains("test123"));
         verify(gameFacade).initializeGame();
+        verify(gameRunnerService).submit(eq(mockGame), any(Runnable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void startGame_RejectedByRunner() {
+        Game mockGame = new Game();
+        mockGame.setGameId("busy123");
+        when(gameFacade.initializeGame()).thenReturn(mockGame);
+        doThrow(new GameRejectedException("error.game.rejected")).when(gameRunnerService)
+                .submit(any(Game.class), any(Runnable.class));
+
+        ResponseEntity<?> response = gameController.startGame();
+
+        ConcurrentHashMap<String, Game> activeGames =
+                (ConcurrentHashMap<String, Game>) ReflectionTestUtils.getField(gameController, "activeGames");
+
+        assertEquals(503, response.getStatusCode().value());
+        assertNotNull(activeGames);
+        assertFalse(activeGames.containsKey("busy123"));
+    }
+
+    @Test
+    void startGame_AtCapacityNotStartedUpstream() {
+        when(gameRunnerService.isAtCapacity()).thenReturn(true);
+
+        ResponseEntity<?> response = gameController.startGame();
+
+        assertEquals(503, response.getStatusCode().value());
+        verify(gameFacade, never()).initializeGame();
+        verify(gameRunnerService, never()).submit(any(Game.class), any(Runnable.class));
     }
 
     @Test
@@ -69,29 +121,67 @@ public class GameControllerTest {
     void displayResult_ValidGameId() {
         GameResult mockResult = new GameResult(null, "validId", 0, 0, 3, 100.0, 1, 0, false, null, null, null);
         when(gameResultService.findByGameId("validId")).thenReturn(mockResult);
-        String view = gameController.displayResult(model, "validId");
+        String view = gameController.displayResult(model, "validId", webRequest());
         assertEquals("result", view);
         verify(model).addAttribute("gameResult", mockResult);
         verify(model).addAttribute("processedMessages", mockResult.getProcessedMessages());
     }
 
+    @Test
+    void displayResult_NotModified() {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 10, 17, 12, 0);
+        GameResult mockResult = new GameResult(null, "validId", 0, 0, 3, 100.0, 1, 0, false, timestamp, null, null);
+        when(gameResultService.findByGameId("validId")).thenReturn(mockResult);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/game/validId");
+        request.addHeader("If-None-Match", "\"validId-" + timestamp.atZone(ZoneId.systemDefault()).toInstant()
+                .toEpochMilli() + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        String view = gameController.displayResult(model, "validId", new ServletWebRequest(request, response));
+        assertNull(view);
+        assertEquals(304, response.getStatus());
+        verify(model, never()).addAttribute(eq("gameResult"), any());
+    }
+
     @Test
     void displayResult_InvalidGameId() {
         when(gameResultService.findByGameId("invalidId")).thenReturn(null);
-        String view = gameController.displayResult(model, "invalidId");
+        String view = gameController.displayResult(model, "invalidId", webRequest());
         assertEquals("error", view);
         verify(model).addAttribute("errorMessage", "Failed to retrieve game results.");
     }
 
     @Test
     void getGameHistory_Success() {
-        gameController.getGameHistory(0, 10, null, model);
-        verify(gameResultService).getAllGameResults(any());
+        when(gameResultService.getGameResultSummaries(null, null, 10)).thenReturn(Window.from(List.of(),
+                ScrollPosition::offset));
+        String view = gameController.getGameHistory(null, null, 10, null, model);
+        assertEquals("history", view);
+        verify(gameResultService).getGameResultSummaries(null, null, 10);
+        verify(model).addAttribute("firstPage", true);
+    }
+
+    @Test
+    void getGameHistory_NextPageCursor() {
+        GameResultSummary last = mock(GameResultSummary.class);
+        LocalDateTime timestamp = LocalDateTime.now();
+        UUID id = UUID.randomUUID();
+        when(last.getTimestamp()).thenReturn(timestamp);
+        when(last.getId()).thenReturn(id);
+        when(gameResultService.getGameResultSummaries(any(), any(), eq(1))).thenReturn(Window.from(List.of(last),
+                ScrollPosition::offset, true));
+
+        gameController.getGameHistory(timestamp.plusDays(1), UUID.randomUUID(), 1, null, model);
+        verify(model).addAttribute("firstPage", false);
+        verify(model).addAttribute("nextBefore", timestamp);
+        verify(model).addAttribute("nextBeforeId", id);
     }
 
     @Test
     void getGameHistory_NotFoundError() {
-        String view = gameController.getGameHistory(0, 10, "notfound", model);
+        when(gameResultService.getGameResultSummaries(null, null, 10)).thenReturn(Window.from(List.of(),
+                ScrollPosition::offset));
+        String view = gameController.getGameHistory(null, null, 10, "notfound", model);
         assertEquals("error", view);
         verify(model).addAttribute("errorMessage", "Failed to retrieve game history.");
     }
@@ -111,4 +201,43 @@ public class GameControllerTest {
         assertNotNull(activeGames);
         assertFalse(activeGames.containsKey("game123"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void cancelGame_Running() {
+        when(gameRunnerService.cancel("game123")).thenReturn(true);
+
+        ResponseEntity<?> response = gameController.cancelGame("game123");
+
+        assertEquals(202, response.getStatusCode().value());
+        assertTrue(Objects.requireNonNull(response.getBody()).toString().contains("cancelling"));
+    }
+
+    @Test
+    void cancelGame_NotRunning() {
+        when(gameRunnerService.cancel("game123")).thenReturn(false);
+
+        ResponseEntity<?> response = gameController.cancelGame("game123");
+
+        assertEquals(404, response.getStatusCode().value());
+    }
+
+    @Test
+    void activeGames_ExposedAsGauge() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(gameController, "meterRegistry", meterRegistry);
+        gameController.registerMetrics();
+        doNothing().when(gameRunnerService).submit(any(Game.class), any(Runnable.class));
+        Game mockGame = new Game();
+        mockGame.setGameId("running123");
+        when(gameFacade.initializeGame()).thenReturn(mockGame);
+
+        gameController.startGame();
+
+        assertEquals(1, meterRegistry.get("mugloar.games.active").gauge().value());
+    }
+
+    // PRIVATE METHODS //
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,52 @@
+package com.bigbank.mugloarserver.controllers.unit;
+
+import com.bigbank.mugloarserver.controllers.GameStatusController;
+import com.bigbank.mugloarserver.models.GameStateMessage;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GameStatusController
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameStatusControllerTest {
+    @InjectMocks
+    private GameStatusController gameStatusController;
+
+    @Mock
+    private GameStatePublisher gameStatePublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getGameStatusSnapshot_ReturnsRecentUpdates() {
+        List<GameStateMessage> snapshot = List.of(new GameStateMessage("game1", "game_initialized",
+                "Game initialized.", LocalDateTime.now(), 1));
+        when(gameStatePublisher.getSnapshot("game1")).thenReturn(snapshot);
+
+        assertEquals(snapshot, gameStatusController.getGameStatusSnapshot("game1"));
+    }
+
+    @Test
+    void getGameStatusSnapshot_UnknownGame() {
+        when(gameStatePublisher.getSnapshot("unknown")).thenReturn(List.of());
+
+        assertTrue(gameStatusController.getGameStatusSnapshot("unknown").isEmpty());
+    }
+}
@@ -2,7 +2,10 @@ package com.bigbank.mugloarserver.facades.integration;
 
 import com.bigbank.mugloarserver.facades.GameFacade;
 import com.bigbank.mugloarserver.models.*;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.GameResultCache;
 import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameResultWriter;
 import com.bigbank.mugloarserver.services.InventoryService;
 import com.bigbank.mugloarserver.services.MugloarService;
 import com.bigbank.mugloarserver.services.StrategyService;
@@ -15,6 +18,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
@@ -45,6 +49,12 @@ public class GameFacadeIntegrationTest {
     private StrategyService strategyService;
     @Autowired
     private InventoryService inventoryService;
+    @Autowired
+    private GameResultWriter gameResultWriter;
+    @Autowired
+    private GameResultRepository gameResultRepository;
+    @Autowired
+    private GameResultCache gameResultCache;
 
     @BeforeEach
     void setupMocks() {
@@ -68,10 +78,8 @@ public class GameFacadeIntegrationTest {
                 .thenReturn(List.of(new Message("ad2", "msg2", "20", 3, null, "")))
                 .thenReturn(Collections.emptyList());
 
-        when(strategyService.chooseMessage(anyList(), eq(mockGame)))
-                .thenReturn(new Message("ad1", "msg1", "10", 3, null, ""))
-                .thenReturn(new Message("ad2", "msg2", "20", 3, null, ""))
-                .thenReturn(null);
+        when(strategyService.createMessageBoard(anyList(), eq(mockGame)))
+                .thenAnswer(inv -> new MessageBoard(inv.getArgument(0), m -> m.getIntReward(), () -> 0.0, m -> false));
 
         when(mugloarService.solveMessage(eq("gameFacadeTest"), anyString()))
                 .thenReturn(new MessageSolveResponse(true, mockGame.getLives(), 120.0, 50, 200, 1, "solved"))
@@ -90,13 +98,29 @@ public class GameFacadeIntegrationTest {
         doNothing().when(inventoryService).addItem(anyString(), any(ShopItem.class));
     }
 
+    /**
+     * Results are written by the write-behind writer in its own transactions, so they outlive the rolled back test
+     * transaction and are removed here, from the database and the result cache.
+     */
+    @AfterTransaction
+    void removeWrittenResults() throws InterruptedException {
+        gameResultWriter.flush();
+
+        for (int i = 0; i < 100 && gameResultWriter.getPendingCount() > 0; i++) {
+            Thread.sleep(50);
+        }
+
+        gameResultRepository.deleteAll();
+        gameResultCache.evict("gameFacadeTest");
+    }
+
     @Test
     void integration_FinalizeGame() {
         Game g = gameFacade.initializeGame();
         assertNotNull(g);
         List<ProcessedMessage> msgs = new ArrayList<>();
-        msgs.add(new ProcessedMessage("adId", "Msg1", 0, 100, true, null));
-        msgs.add(new ProcessedMessage("adId2", "Msg2", 1, 200, false, "fail reason"));
+        msgs.add(new ProcessedMessage("adId", "Msg1", 0, 100, true, null, "Sure thing"));
+        msgs.add(new ProcessedMessage("adId2", "Msg2", 1, 200, false, "fail reason", "Gamble"));
         gameFacade.finalizeGame(g, msgs);
         GameResult result = gameResultService.findByGameId("gameFacadeTest");
         assertNotNull(result);
@@ -108,7 +132,7 @@ public class GameFacadeIntegrationTest {
         Game g = gameFacade.initializeGame();
         assertNotNull(g);
         List<ProcessedMessage> msgs = new ArrayList<>();
-        msgs.add(new ProcessedMessage("adTerm", "TermMsg", 0, 50, true, "done"));
+        msgs.add(new ProcessedMessage("adTerm", "TermMsg", 0, 50, true, "done", "Piece of cake"));
         gameFacade.terminateGame(g, msgs, "force termination");
         GameResult result = gameResultService.findByGameId("gameFacadeTest");
         assertNotNull(result);
@@ -4,20 +4,29 @@ import com.bigbank.mugloarserver.exceptions.GameOverException;
 import com.bigbank.mugloarserver.exceptions.MugloarException;
 import com.bigbank.mugloarserver.facades.GameFacade;
 import com.bigbank.mugloarserver.models.*;
-import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.services.GameMetricsService;
+import com.bigbank.mugloarserver.services.GameResultWriter;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import com.bigbank.mugloarserver.services.InventoryService;
 import com.bigbank.mugloarserver.services.MugloarService;
+import com.bigbank.mugloarserver.services.ShopCatalogService;
 import com.bigbank.mugloarserver.services.StrategyService;
+import com.bigbank.mugloarserver.services.implementations.GameMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -39,10 +48,21 @@ public class GameFacadeTest {
     private StrategyService strategyService;
 
     @Mock
-    private GameResultService gameResultService;
+    private GameResultWriter gameResultWriter;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private InventoryService inventoryService;
+
+    @Mock
+    private ShopCatalogService shopCatalogService;
+
+    @Mock
+    private GameStatePublisher gameStatePublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private GameMetricsService gameMetricsService = new GameMetricsServiceImpl(meterRegistry);
 
     private Game testGame;
 
@@ -68,8 +88,8 @@ public class GameFacadeTest {
         assertNotNull(resultGame);
         assertEquals("test123", resultGame.getGameId());
         verify(mugloarService).startGame();
-        verify(messagingTemplate).convertAndSend(
-                eq("/topic/game-status/test123"), any(GameStateMessage.class));
+        verify(strategyService).createContext("test123");
+        verify(gameStatePublisher).publish("test123", "game_initialized", "Game initialized.");
     }
 
     @Test
@@ -77,6 +97,9 @@ public class GameFacadeTest {
         when(mugloarService.startGame()).thenThrow(new GameOverException("Game Over"));
 
         assertThrows(GameOverException.class, () -> gameFacade.initializeGame());
+        // The game never got an ID, so nothing is left marked as finalizing
+        assertTrue(gameFacade.cancelGame(null, () -> {
+        }));
     }
 
     @Test
@@ -86,7 +109,7 @@ public class GameFacadeTest {
         Game resultGame = gameFacade.initializeGame();
 
         assertNull(resultGame);
-        verify(messagingTemplate, never()).convertAndSend(anyString(), Optional.ofNullable(any()));
+        verifyNoInteractions(gameStatePublisher);
     }
 
     @Test
@@ -101,8 +124,89 @@ public class GameFacadeTest {
                 .when(mugloarService).investigate("test123");
 
         assertDoesNotThrow(() -> gameFacade.playGame(testGame));
-        verify(messagingTemplate, atLeastOnce()).convertAndSend(
-                contains("/topic/game-status/test123"), any(GameStateMessage.class));
+        verify(gameStatePublisher, atLeastOnce()).publish(eq("test123"), eq("game_over"), anyString());
+    }
+
+    @Test
+    void playGame_PhasesAndGameStatisticsRecorded() {
+        when(mugloarService.investigate("test123")).thenReturn(new Investigation());
+        when(mugloarService.getMessages("test123")).thenThrow(new GameOverException("Game Over"));
+
+        gameFacade.playGame(testGame);
+
+        assertEquals(1, phaseCount("investigation", "success"));
+        assertEquals(1, phaseCount("message_solving", "game_over"));
+        assertEquals(1, phaseCount("finalization", "success"));
+        assertEquals(2, meterRegistry.get("mugloar.games.finished.api-calls").summary().totalAmount());
+        assertEquals(0, meterRegistry.get("mugloar.games.finished.api-calls-per-100-points").summary().count());
+    }
+
+    @Test
+    void playGame_StopsAfterConsecutiveErrors() {
+        ReflectionTestUtils.setField(gameFacade, "maxConsecutiveErrors", 3);
+        when(mugloarService.investigate("test123")).thenThrow(new MugloarException("error.unexpected"));
+        when(mugloarService.getMessages("test123")).thenThrow(new MugloarException("error.unexpected"));
+
+        gameFacade.playGame(testGame);
+
+        verify(mugloarService, times(3)).investigate("test123");
+        verify(gameStatePublisher).publish("test123", "game_budget_exceeded", "Failed 3 game loops in a row.");
+        verify(gameResultWriter).submit(any(GameResult.class));
+    }
+
+    @Test
+    void playGame_StopsAtTurnBudget() {
+        ReflectionTestUtils.setField(gameFacade, "maxTurns", 5);
+        testGame.setTurn(5);
+
+        gameFacade.playGame(testGame);
+
+        verifyNoInteractions(mugloarService);
+        verify(gameStatePublisher).publish("test123", "game_budget_exceeded", "Turn budget of 5 exceeded.");
+        verify(gameResultWriter).submit(any(GameResult.class));
+    }
+
+    @Test
+    void playGame_Cancelled() {
+        assertTrue(gameFacade.cancelGame("test123", () -> {
+        }));
+
+        gameFacade.playGame(testGame);
+
+        verifyNoInteractions(mugloarService);
+        verify(gameStatePublisher).publish("test123", "game_cancelled", "Game cancelled.");
+        verify(gameResultWriter).submit(argThat(result -> "test123".equals(result.getGameId())));
+        assertFalse(gameFacade.isCancelled("test123"));
+    }
+
+    @Test
+    void cancelGame_RefusedWhileFinalizing() throws Exception {
+        CountDownLatch finalizing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gameResultWriter.submit(any(GameResult.class))).thenAnswer(invocation -> {
+            finalizing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        boolean[] aborted = new boolean[1];
+
+        Thread terminating = Thread.ofVirtual().start(() -> gameFacade.terminateGame(testGame, new ArrayList<>(),
+                "Game Over detected from API."));
+        assertTrue(finalizing.await(5, TimeUnit.SECONDS));
+
+        assertFalse(gameFacade.cancelGame("test123", () -> aborted[0] = true));
+        release.countDown();
+        terminating.join(5000);
+
+        // Still refused until whoever runs the game releases it
+        assertFalse(gameFacade.cancelGame("test123", () -> aborted[0] = true));
+        assertFalse(aborted[0]);
+        assertFalse(gameFacade.isCancelled("test123"));
+
+        gameFacade.releaseGame("test123");
+
+        assertTrue(gameFacade.cancelGame("test123", () -> aborted[0] = true));
+        assertTrue(aborted[0]);
     }
 
     @Test
@@ -113,7 +217,7 @@ public class GameFacadeTest {
         boolean result = gameFacade.performInvestigation(testGame);
 
         assertTrue(result);
-        verify(strategyService).processInvestigation(investigation);
+        verify(strategyService).processInvestigation("test123", investigation);
     }
 
     @Test
@@ -123,7 +227,7 @@ public class GameFacadeTest {
         boolean result = gameFacade.performInvestigation(testGame);
 
         assertFalse(result);
-        verify(strategyService, never()).processInvestigation(any());
+        verify(strategyService, never()).processInvestigation(any(), any());
     }
 
     @Test
@@ -132,7 +236,8 @@ public class GameFacadeTest {
         MessageSolveResponse response = new MessageSolveResponse(true, 3, 150.0, 300, 1, 1, "Success");
 
         when(mugloarService.getMessages("test123")).thenReturn(List.of(message));
-        when(strategyService.chooseMessage(anyList(), eq(testGame))).thenReturn(message);
+        when(strategyService.createMessageBoard(anyList(), eq(testGame)))
+                .thenReturn(new MessageBoard(List.of(message), m -> 1.0, () -> 0.0, m -> false));
         when(mugloarService.solveMessage("test123", "ad1")).thenReturn(response);
 
         List<ProcessedMessage> processedMessages = new ArrayList<>();
@@ -140,14 +245,15 @@ public class GameFacadeTest {
 
         assertTrue(result);
         assertEquals(1, processedMessages.size());
-        verify(strategyService).markMessageAsSolved("ad1");
+        verify(strategyService).markMessageAsSolved("test123", "ad1");
     }
 
     @Test
     void performMessageSolving_Failed() {
         Message message = new Message("ad1", "Message Text", "50", 2, null, "Low");
         when(mugloarService.getMessages("test123")).thenReturn(List.of(message));
-        when(strategyService.chooseMessage(anyList(), eq(testGame))).thenReturn(message);
+        when(strategyService.createMessageBoard(anyList(), eq(testGame)))
+                .thenReturn(new MessageBoard(List.of(message), m -> 1.0, () -> 0.0, m -> false));
         when(mugloarService.solveMessage("test123", "ad1"))
                 .thenReturn(new MessageSolveResponse(false, 2, 100.0, 0, 0, 0, "Failed"));
 
@@ -156,7 +262,7 @@ public class GameFacadeTest {
 
         assertFalse(result);
         assertEquals(1, processedMessages.size());
-        verify(strategyService).recordFailure("ad1");
+        verify(strategyService).recordFailure("test123", "ad1");
     }
 
     @Test
@@ -169,36 +275,80 @@ public class GameFacadeTest {
         when(mugloarService.buyItem("test123", "hpot")).thenReturn(purchaseResponse);
 
         assertDoesNotThrow(() -> gameFacade.performShopPhase(testGame));
+        verify(shopCatalogService).cacheItems(testGame, List.of(item));
     }
 
     @Test
-    void finalizeGame_SavesSuccessfully() {
+    void performShopPhase_UsesCachedCatalog() {
+        ShopItem item = new ShopItem("hpot", "Healing Potion", 50.0);
+
+        when(shopCatalogService.getCachedItems(testGame)).thenReturn(Optional.of(List.of(item)));
+        when(strategyService.decideItemsToBuy(testGame, List.of(item))).thenReturn(List.of());
+
+        gameFacade.performShopPhase(testGame);
+
+        verify(mugloarService, never()).getShopItems(anyString());
+        verify(strategyService).decideItemsToBuy(testGame, List.of(item));
+    }
+
+    @Test
+    void performShopPhase_SkippedWhenBelowCheapestItem() {
+        when(shopCatalogService.isBelowCheapestItem(testGame)).thenReturn(true);
+
+        gameFacade.performShopPhase(testGame);
+
+        verify(mugloarService, never()).getShopItems(anyString());
+        verifyNoInteractions(strategyService);
+    }
+
+    @Test
+    void recordPurchaseOutcome_FailureInvalidatesCatalog() {
+        ShopItem item = new ShopItem("hpot", "Healing Potion", 50.0);
+
+        gameFacade.recordPurchaseOutcome(testGame, item, null);
+
+        verify(shopCatalogService).invalidate("test123");
+        verify(inventoryService, never()).addItem(anyString(), any());
+    }
+
+    @Test
+    void finalizeGame_QueuesResult() {
         testGame.setScore(1200);
-        when(gameResultService.findByGameId("test123")).thenReturn(null);
+        when(gameResultWriter.submit(any(GameResult.class))).thenReturn(true);
 
         gameFacade.finalizeGame(testGame, new ArrayList<>());
-        verify(gameResultService).save(any(GameResult.class));
+        verify(gameResultWriter).submit(argThat(result -> "test123".equals(result.getGameId())
+                && result.isAchievedGoal()));
+        verify(gameStatePublisher).publish("test123", "game_result_queued", "Game result queued for saving.");
     }
 
     @Test
     void finalizeGame_DuplicateGameResult() {
-        when(gameResultService.findByGameId("test123")).thenReturn(new GameResult());
+        when(gameResultWriter.submit(any(GameResult.class))).thenReturn(false);
 
         gameFacade.finalizeGame(testGame, new ArrayList<>());
-        verify(gameResultService, never()).save(any());
+        verify(gameStatePublisher).publish("test123", "game_result_exists", "Game result already exists. Skipping " +
+                "save.");
     }
 
     @Test
     void terminateGame_NullGame() {
         assertDoesNotThrow(() -> gameFacade.terminateGame(null, Collections.emptyList(), "Reason"));
-        verify(messagingTemplate, atLeastOnce()).convertAndSend(
-                contains("/topic/game-status/Unknown"), Optional.ofNullable(any()));
+        verify(gameStatePublisher, atLeastOnce()).publish(eq("Unknown"), anyString(), anyString());
     }
 
     @Test
     void terminateGame_Successful() {
         assertDoesNotThrow(() -> gameFacade.terminateGame(testGame, new ArrayList<>(), "Game ended"));
-        verify(messagingTemplate, atLeastOnce()).convertAndSend(
-                contains("/topic/game-status/test123"), Optional.ofNullable(any()));
+        verify(strategyService).releaseContext("test123");
+        verify(shopCatalogService).invalidate("test123");
+        verify(inventoryService).releaseGame("test123");
+        verify(gameStatePublisher).complete("test123");
+        verify(gameStatePublisher, atLeastOnce()).publish(eq("test123"), anyString(), anyString());
+    }
+
+    // PRIVATE METHODS //
+    private long phaseCount(String phase, String outcome) {
+        return meterRegistry.get("mugloar.game.phases").tags("phase", phase, "outcome", outcome).timer().count();
     }
-}
\ No newline at end of file
+}
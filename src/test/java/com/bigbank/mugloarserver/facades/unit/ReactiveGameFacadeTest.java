@@ -0,0 +1,260 @@
+package com.bigbank.mugloarserver.facades.unit;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.exceptions.MugloarException;
+import com.bigbank.mugloarserver.facades.GameFacade;
+import com.bigbank.mugloarserver.facades.ReactiveGameFacade;
+import com.bigbank.mugloarserver.models.*;
+import com.bigbank.mugloarserver.services.GameMetricsService;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import com.bigbank.mugloarserver.services.InventoryService;
+import com.bigbank.mugloarserver.services.ReactiveMugloarService;
+import com.bigbank.mugloarserver.services.ShopCatalogService;
+import com.bigbank.mugloarserver.services.StrategyService;
+import com.bigbank.mugloarserver.services.implementations.GameMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveGameFacade
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class ReactiveGameFacadeTest {
+    @InjectMocks
+    private ReactiveGameFacade reactiveGameFacade;
+
+    @Mock
+    private ReactiveMugloarService reactiveMugloarService;
+
+    @Mock
+    private StrategyService strategyService;
+
+    @Mock
+    private ShopCatalogService shopCatalogService;
+
+    @Mock
+    private GameFacade gameFacade;
+
+    @Mock
+    private GameStatePublisher gameStatePublisher;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private GameMetricsService gameMetricsService = new GameMetricsServiceImpl(meterRegistry);
+
+    private Game testGame;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        testGame = new Game();
+        testGame.setGameId("test123");
+        testGame.setLives(3);
+        testGame.setGold(100.0);
+    }
+
+    @Test
+    void playGame_NullGame() {
+        assertDoesNotThrow(() -> reactiveGameFacade.playGame(null).block(Duration.ofSeconds(5)));
+        verifyNoInteractions(reactiveMugloarService);
+    }
+
+    @Test
+    void playGame_GameOverTerminatesGame() {
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.error(new GameOverException("Game Over")));
+
+        reactiveGameFacade.playGame(testGame).block(Duration.ofSeconds(5));
+
+        verify(gameFacade).terminateGame(eq(testGame), anyList(), eq("Game Over detected from API."));
+    }
+
+    @Test
+    void playGame_RecordsGameMetrics() {
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.just(new Investigation()));
+        when(reactiveMugloarService.getMessages("test123")).thenReturn(Mono.error(new GameOverException("Game Over")));
+
+        reactiveGameFacade.playGame(testGame).block(Duration.ofSeconds(5));
+
+        verify(gameMetricsService).startGame(testGame);
+        verify(gameMetricsService, times(2)).recordApiCall("test123");
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "investigation", "outcome",
+                "success").timer().count());
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "message_solving", "outcome",
+                "game_over").timer().count());
+    }
+
+    @Test
+    void playGame_ContinuesAfterMugloarException() {
+        when(reactiveMugloarService.investigate("test123"))
+                .thenReturn(Mono.error(new MugloarException("error.unexpected")))
+                .thenReturn(Mono.error(new GameOverException("Game Over")));
+        when(reactiveMugloarService.getMessages("test123")).thenReturn(Mono.just(List.of()));
+        when(reactiveMugloarService.getShopItems("test123")).thenReturn(Mono.just(List.of()));
+
+        reactiveGameFacade.playGame(testGame).block(Duration.ofSeconds(5));
+
+        verify(reactiveMugloarService, times(2)).investigate("test123");
+        verify(gameFacade).terminateGame(eq(testGame), anyList(), anyString());
+    }
+
+    @Test
+    void playGame_CancelledAfterTurn() {
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.just(new Investigation()));
+        when(reactiveMugloarService.getMessages("test123")).thenReturn(Mono.just(List.of()));
+        when(reactiveMugloarService.getShopItems("test123")).thenReturn(Mono.just(List.of()));
+        when(gameFacade.isCancelled("test123")).thenReturn(true);
+
+        reactiveGameFacade.playGame(testGame).block(Duration.ofSeconds(5));
+
+        verify(reactiveMugloarService, times(1)).investigate("test123");
+        verify(gameStatePublisher).publish("test123", "game_cancelled", "Game cancelled.");
+        verify(gameFacade).terminateGame(eq(testGame), anyList(), eq("Game cancelled."));
+    }
+
+    @Test
+    void playGame_StopsAfterConsecutiveFailedTurns() {
+        when(reactiveMugloarService.investigate("test123"))
+                .thenReturn(Mono.error(new MugloarException("error.unexpected")));
+        when(reactiveMugloarService.getMessages("test123"))
+                .thenReturn(Mono.error(new MugloarException("error.unexpected")));
+        when(reactiveMugloarService.getShopItems("test123")).thenReturn(Mono.just(List.of()));
+        when(gameFacade.findExceededBudget(eq(testGame), anyLong(), intThat(errors -> errors >= 3)))
+                .thenReturn("Failed 3 game loops in a row.");
+
+        reactiveGameFacade.playGame(testGame).block(Duration.ofSeconds(5));
+
+        verify(reactiveMugloarService, times(3)).investigate("test123");
+        verify(gameStatePublisher).publish("test123", "game_budget_exceeded", "Failed 3 game loops in a row.");
+        verify(gameFacade).terminateGame(eq(testGame), anyList(), eq("Failed 3 game loops in a row."));
+    }
+
+    @Test
+    void playGame_DisposedSubscriptionTerminatesGame() {
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.never());
+
+        reactiveGameFacade.playGame(testGame).subscribe().dispose();
+
+        verify(gameFacade, timeout(5000)).terminateGame(eq(testGame), anyList(), eq("Game cancelled."));
+    }
+
+    @Test
+    void playGame_DisposedWhileTerminating_TerminationCompletes() throws InterruptedException {
+        CountDownLatch terminating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch terminated = new CountDownLatch(1);
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.error(new GameOverException("Game Over")));
+        doAnswer(invocation -> {
+            terminating.countDown();
+            // An interrupt from the disposed subscription would end the wait early with an exception
+            if (release.await(5, TimeUnit.SECONDS)) {
+                terminated.countDown();
+            }
+            return null;
+        }).when(gameFacade).terminateGame(eq(testGame), anyList(), anyString());
+
+        Disposable subscription = reactiveGameFacade.playGame(testGame).subscribe();
+        assertTrue(terminating.await(5, TimeUnit.SECONDS));
+        subscription.dispose();
+        release.countDown();
+
+        assertTrue(terminated.await(5, TimeUnit.SECONDS));
+        verify(gameFacade).beginFinalization("test123");
+        verify(gameFacade, times(1)).terminateGame(eq(testGame), anyList(), eq("Game Over detected from API."));
+    }
+
+    @Test
+    void performInvestigation_Success() {
+        Investigation investigation = new Investigation();
+        when(reactiveMugloarService.investigate("test123")).thenReturn(Mono.just(investigation));
+
+        assertEquals(Boolean.TRUE, reactiveGameFacade.performInvestigation(testGame).block());
+        verify(strategyService).processInvestigation("test123", investigation);
+    }
+
+    @Test
+    void performMessageSolving_Success() {
+        Message message = new Message("ad1", "Message Text", "50", 2, null, "High");
+        MessageSolveResponse response = new MessageSolveResponse(true, 3, 150.0, 300, 1, 1, "Success");
+
+        when(reactiveMugloarService.getMessages("test123")).thenReturn(Mono.just(List.of(message)));
+        when(strategyService.createMessageBoard(anyList(), eq(testGame)))
+                .thenReturn(new MessageBoard(List.of(message), m -> 1.0, () -> 0.0, m -> false));
+        when(reactiveMugloarService.solveMessage("test123", "ad1")).thenReturn(Mono.just(response));
+        when(reactiveMugloarService.getShopItems("test123")).thenReturn(Mono.just(List.of()));
+        when(gameFacade.recordSolveOutcome(eq(testGame), eq(message), eq(response), anyList())).thenReturn(true);
+
+        List<ProcessedMessage> processedMessages = new ArrayList<>();
+        Boolean result = reactiveGameFacade.performMessageSolving(testGame, processedMessages).block();
+
+        assertEquals(Boolean.TRUE, result);
+        verify(gameFacade).recordSolveOutcome(testGame, message, response, processedMessages);
+    }
+
+    @Test
+    void performMessageSolving_GameOverPropagates() {
+        when(reactiveMugloarService.getMessages("test123")).thenReturn(Mono.error(new GameOverException("Game Over")));
+
+        assertThrows(GameOverException.class,
+                () -> reactiveGameFacade.performMessageSolving(testGame, new ArrayList<>()).block());
+    }
+
+    @Test
+    void performShopPhase_ItemsBoughtSuccessfully() {
+        ShopItem item = new ShopItem("hpot", "Healing Potion", 50.0);
+        ShopPurchaseResponse purchaseResponse = new ShopPurchaseResponse("true", 50.0, 4, 1, 2);
+
+        when(reactiveMugloarService.getShopItems("test123")).thenReturn(Mono.just(List.of(item)));
+        when(strategyService.decideItemsToBuy(testGame, List.of(item))).thenReturn(List.of(item));
+        when(reactiveMugloarService.buyItem("test123", "hpot")).thenReturn(Mono.just(purchaseResponse));
+
+        reactiveGameFacade.performShopPhase(testGame).block();
+
+        verify(gameFacade).recordPurchaseOutcome(testGame, item, purchaseResponse);
+        verify(shopCatalogService).cacheItems(testGame, List.of(item));
+    }
+
+    @Test
+    void performShopPhase_UsesCachedCatalog() {
+        ShopItem item = new ShopItem("hpot", "Healing Potion", 50.0);
+
+        when(shopCatalogService.getCachedItems(testGame)).thenReturn(Optional.of(List.of(item)));
+        when(strategyService.decideItemsToBuy(testGame, List.of(item))).thenReturn(List.of());
+
+        reactiveGameFacade.performShopPhase(testGame).block();
+
+        verify(reactiveMugloarService, never()).getShopItems(anyString());
+    }
+
+    @Test
+    void performShopPhase_SkippedWhenBelowCheapestItem() {
+        when(shopCatalogService.isBelowCheapestItem(testGame)).thenReturn(true);
+
+        reactiveGameFacade.performShopPhase(testGame).block();
+
+        verifyNoInteractions(reactiveMugloarService);
+    }
+}
@@ -0,0 +1,73 @@
+package com.bigbank.mugloarserver.repositories.unit;
+
+import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.repositories.GameResultRepositoryCustomImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameResultRepositoryCustomImpl
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameResultRepositoryCustomTest {
+    private JdbcTemplate jdbcTemplate;
+    private GameResultRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new GameResultRepositoryCustomImpl(jdbcTemplate);
+    }
+
+    @Test
+    void insertAllIfAbsent_RowCounts() {
+        GameResult inserted = gameResult("game1");
+        GameResult duplicate = gameResult("game2");
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO game_result"), anyList())).thenReturn(new int[]{1, 0});
+
+        assertArrayEquals(new boolean[]{true, false}, repository.insertAllIfAbsent(List.of(inserted, duplicate)));
+        assertNotNull(inserted.getId());
+        assertNull(duplicate.getId());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO shop_items"),
+                argThat((List<Object[]> rows) -> rows.size() == 1 && inserted.getId().equals(rows.getFirst()[0])));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(UUID.class), any(Object[].class));
+    }
+
+    @Test
+    void insertAllIfAbsent_SuccessNoInfo() {
+        GameResult inserted = gameResult("game1");
+        GameResult duplicate = gameResult("game2");
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO game_result"), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            when(jdbcTemplate.queryForList(startsWith("SELECT id FROM game_result"), eq(UUID.class),
+                    any(Object[].class))).thenReturn(List.of((UUID) rows.getFirst()[0]));
+            return new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO};
+        });
+
+        assertArrayEquals(new boolean[]{true, false}, repository.insertAllIfAbsent(List.of(inserted, duplicate)));
+        assertNotNull(inserted.getId());
+        assertNull(duplicate.getId());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO shop_items"),
+                argThat((List<Object[]> rows) -> rows.size() == 1 && inserted.getId().equals(rows.getFirst()[0])));
+    }
+
+    // PRIVATE METHODS //
+    private static GameResult gameResult(String gameId) {
+        GameResult gameResult = new GameResult();
+        gameResult.setGameId(gameId);
+        gameResult.getPurchasedItems().add(new ShopItem("hpot", "Healing potion", 50));
+        return gameResult;
+    }
+}
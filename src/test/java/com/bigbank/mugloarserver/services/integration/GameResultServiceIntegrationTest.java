@@ -2,14 +2,22 @@ package com.bigbank.mugloarserver.services.integration;
 
 import com.bigbank.mugloarserver.exceptions.DuplicateGameResultException;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
+import com.bigbank.mugloarserver.models.ProcessedMessage;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
 import com.bigbank.mugloarserver.services.GameResultService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Integration tests for GameResultService
@@ -22,6 +30,9 @@ public class GameResultServiceIntegrationTest {
     @Autowired
     private GameResultService gameResultService;
 
+    @Autowired
+    private GameResultRepository gameResultRepository;
+
     @Test
     void saveAndFindByGameId_Integration() throws DuplicateGameResultException {
         GameResult gr = new GameResult();
@@ -44,9 +55,59 @@ public class GameResultServiceIntegrationTest {
         assertThrows(DuplicateGameResultException.class, () -> gameResultService.save(gr2));
     }
 
+    @Test
+    @Transactional
+    void insertAllIfAbsent_Integration() {
+        GameResult gr = new GameResult();
+        gr.setGameId("absentId");
+        gr.setTimestamp(LocalDateTime.now());
+        gr.getProcessedMessages().add(new ProcessedMessage("ad1", "Msg1", 1, 50, true, null, "Sure thing"));
+        gr.getPurchasedItems().add(new ShopItem("hpot", "Healing potion", 50));
+
+        GameResult duplicate = new GameResult();
+        duplicate.setGameId("absentId");
+
+        assertArrayEquals(new boolean[]{true, false}, gameResultRepository.insertAllIfAbsent(List.of(gr, duplicate)));
+        assertNull(duplicate.getId());
+
+        GameResult found = gameResultService.findByGameId("absentId");
+        assertEquals(gr.getId(), found.getId());
+        assertEquals(1, found.getProcessedMessages().size());
+        assertEquals("hpot", found.getPurchasedItems().getFirst().getId());
+    }
+
     @Test
     void getAllGameResults_Integration() {
         var page = gameResultService.getAllGameResults(PageRequest.of(0, 10));
         assertNotNull(page);
     }
+
+    @Test
+    void getGameResultSummaries_KeysetPages_Integration() throws DuplicateGameResultException {
+        // Far future timestamps put these results ahead of those saved by other tests
+        LocalDateTime newest = LocalDateTime.of(2100, 1, 5, 12, 0);
+        saveAt("keyset-1", newest);
+        saveAt("keyset-2", newest.minusDays(1));
+        saveAt("keyset-3", newest.minusDays(1));
+        saveAt("keyset-4", newest.minusDays(2));
+
+        Window<GameResultSummary> firstPage = gameResultService.getGameResultSummaries(null, null, 2);
+        GameResultSummary last = firstPage.getContent().getLast();
+        Window<GameResultSummary> secondPage = gameResultService.getGameResultSummaries(last.getTimestamp(),
+                last.getId(), 2);
+
+        assertTrue(firstPage.hasNext());
+        assertEquals("keyset-1", firstPage.getContent().getFirst().getGameId());
+        List<String> sameTimestamp = List.of(last.getGameId(), secondPage.getContent().getFirst().getGameId());
+        assertTrue(sameTimestamp.containsAll(List.of("keyset-2", "keyset-3")));
+        assertEquals("keyset-4", secondPage.getContent().get(1).getGameId());
+    }
+
+    // PRIVATE METHODS //
+    private void saveAt(String gameId, LocalDateTime timestamp) throws DuplicateGameResultException {
+        GameResult gr = new GameResult();
+        gr.setGameId(gameId);
+        gr.setTimestamp(timestamp);
+        gameResultService.save(gr);
+    }
 }
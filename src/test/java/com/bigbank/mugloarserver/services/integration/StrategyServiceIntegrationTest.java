@@ -31,7 +31,7 @@ public class StrategyServiceIntegrationTest {
         inv.setPeople(10);
         inv.setState(5);
         inv.setUnderworld(15);
-        strategyService.processInvestigation(inv);
+        strategyService.processInvestigation("intGame", inv);
     }
 
     @Test
@@ -57,12 +57,12 @@ public class StrategyServiceIntegrationTest {
 
     @Test
     void markMessageAsSolved_Integration() {
-        strategyService.markMessageAsSolved("mid");
+        strategyService.markMessageAsSolved("intGame", "mid");
     }
 
     @Test
     void recordFailure_Integration() {
-        strategyService.recordFailure("msgId");
-        strategyService.recordFailure("msgId");
+        strategyService.recordFailure("intGame", "msgId");
+        strategyService.recordFailure("intGame", "msgId");
     }
 }
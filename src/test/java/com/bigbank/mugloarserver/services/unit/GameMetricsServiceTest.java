@@ -0,0 +1,114 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.exceptions.MugloarException;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.GameMetricsService.GamePhase;
+import com.bigbank.mugloarserver.services.implementations.GameMetricsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GameMetricsService
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameMetricsServiceTest {
+    private SimpleMeterRegistry meterRegistry;
+    private GameMetricsServiceImpl gameMetricsService;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameMetricsService = new GameMetricsServiceImpl(meterRegistry);
+
+        game = new Game();
+        game.setGameId("game1");
+        game.setTurn(0);
+        game.setScore(0);
+    }
+
+    @Test
+    void timePhase_ReturnsResult() {
+        assertEquals("done", gameMetricsService.timePhase("game1", GamePhase.SHOP, () -> "done"));
+
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "shop", "outcome", "success").timer()
+                .count());
+    }
+
+    @Test
+    void timePhase_ErrorRethrown() {
+        assertThrows(MugloarException.class, () -> gameMetricsService.timePhase("game1", GamePhase.INVESTIGATION,
+                () -> {
+                    throw new MugloarException("error.unexpected");
+                }));
+
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "investigation", "outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void timePhase_MonoTimedOnCompletion() {
+        assertEquals("done", gameMetricsService.timePhase("game1", GamePhase.SHOP, Mono.just("done")).block());
+        assertThrows(GameOverException.class, () -> gameMetricsService.timePhase("game1", GamePhase.MESSAGE_SOLVING,
+                Mono.error(new GameOverException("Game Over"))).block());
+
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "shop", "outcome", "success").timer()
+                .count());
+        assertEquals(1, meterRegistry.get("mugloar.game.phases").tags("phase", "message_solving", "outcome",
+                "game_over").timer().count());
+    }
+
+    @Test
+    void recordLoop_CountsAdvancedTurns() {
+        gameMetricsService.startGame(game);
+
+        game.setTurn(4);
+        gameMetricsService.recordLoop(game);
+        gameMetricsService.recordLoop(game);
+        game.setTurn(7);
+        gameMetricsService.finishGame(game);
+
+        assertEquals(7, meterRegistry.get("mugloar.game.turns").counter().count());
+        assertEquals(2, meterRegistry.get("mugloar.game.loops").counter().count());
+    }
+
+    @Test
+    void finishGame_RecordsGameStatistics() {
+        gameMetricsService.startGame(game);
+
+        for (int i = 0; i < 5; i++) {
+            gameMetricsService.recordApiCall("game1");
+        }
+        gameMetricsService.recordSolve("game1", true);
+        gameMetricsService.recordSolve("game1", true);
+        gameMetricsService.recordSolve("game1", false);
+        gameMetricsService.recordPurchase("game1");
+        game.setTurn(3);
+        game.setScore(250);
+        gameMetricsService.finishGame(game);
+
+        assertEquals(3, meterRegistry.get("mugloar.games.finished.turns").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("mugloar.games.finished.solves").tag("result", "success").summary()
+                .totalAmount());
+        assertEquals(1, meterRegistry.get("mugloar.games.finished.solves").tag("result", "failure").summary()
+                .totalAmount());
+        assertEquals(1, meterRegistry.get("mugloar.games.finished.purchases").summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get("mugloar.games.finished.api-calls-per-100-points").summary()
+                .totalAmount());
+    }
+
+    @Test
+    void finishGame_UnknownGameIgnored() {
+        gameMetricsService.recordApiCall("game1");
+        gameMetricsService.finishGame(game);
+
+        assertEquals(0, meterRegistry.get("mugloar.games.finished.api-calls").summary().count());
+    }
+}
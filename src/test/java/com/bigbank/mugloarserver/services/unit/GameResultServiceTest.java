@@ -2,20 +2,24 @@ package com.bigbank.mugloarserver.services.unit;
 
 import com.bigbank.mugloarserver.exceptions.DuplicateGameResultException;
 import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.GameResultSummary;
 import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.GameResultCache;
+import com.bigbank.mugloarserver.services.GameResultWriter;
 import com.bigbank.mugloarserver.services.implementations.GameResultServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.*;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,12 +34,22 @@ public class GameResultServiceTest {
     @Mock
     private GameResultRepository gameResultRepository;
 
-    @InjectMocks
+    @Mock
+    private GameResultWriter gameResultWriter;
+
+    @Mock
+    private GameResultCache gameResultCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private GameResultServiceImpl gameResultService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        gameResultService = new GameResultServiceImpl(gameResultRepository, gameResultWriter, gameResultCache,
+                transactionManager, Duration.ofHours(1));
     }
 
     @Test
@@ -69,6 +83,25 @@ public class GameResultServiceTest {
         when(gameResultRepository.findByGameId("foundId")).thenReturn(gr);
         GameResult result = gameResultService.findByGameId("foundId");
         assertEquals("foundId", result.getGameId());
+        verify(gameResultCache).put(result);
+    }
+
+    @Test
+    void findByGameId_Cached() {
+        GameResult gr = new GameResult();
+        gr.setGameId("cachedId");
+        when(gameResultCache.get("cachedId")).thenReturn(gr);
+        assertSame(gr, gameResultService.findByGameId("cachedId"));
+        verifyNoInteractions(gameResultRepository, transactionManager);
+    }
+
+    @Test
+    void findByGameId_Pending() {
+        GameResult gr = new GameResult();
+        gr.setGameId("pendingId");
+        when(gameResultWriter.findPending("pendingId")).thenReturn(gr);
+        assertSame(gr, gameResultService.findByGameId("pendingId"));
+        verify(gameResultRepository, never()).findByGameId(anyString());
     }
 
     @Test
@@ -76,6 +109,7 @@ public class GameResultServiceTest {
         when(gameResultRepository.findByGameId("notFound")).thenReturn(null);
         GameResult result = gameResultService.findByGameId("notFound");
         assertNull(result);
+        verify(gameResultCache, never()).put(any());
     }
 
     @Test
@@ -97,4 +131,46 @@ public class GameResultServiceTest {
         when(gameResultRepository.findAll(any(Pageable.class))).thenThrow(new RuntimeException("DB error"));
         assertThrows(RuntimeException.class, () -> gameResultService.getAllGameResults(PageRequest.of(0, 10)));
     }
+
+    @Test
+    void getGameResultSummaries_FirstPage_HasNext() {
+        List<GameResultSummary> summaries = List.of(summary(), summary(), summary());
+        when(gameResultRepository.findLatestSummaries(Limit.of(3))).thenReturn(summaries);
+
+        Window<GameResultSummary> window = gameResultService.getGameResultSummaries(null, null, 2);
+
+        assertEquals(summaries.subList(0, 2), window.getContent());
+        assertTrue(window.hasNext());
+    }
+
+    @Test
+    void getGameResultSummaries_SeeksPastLastSummary() {
+        LocalDateTime before = LocalDateTime.now();
+        UUID beforeId = UUID.randomUUID();
+        List<GameResultSummary> summaries = List.of(summary());
+        when(gameResultRepository.findSummariesBefore(before, beforeId, Limit.of(3))).thenReturn(summaries);
+
+        Window<GameResultSummary> window = gameResultService.getGameResultSummaries(before, beforeId, 2);
+
+        assertEquals(1, window.size());
+        assertFalse(window.hasNext());
+        verify(gameResultRepository, never()).findLatestSummaries(any());
+    }
+
+    @Test
+    void getGameResultCount_Cached() {
+        when(gameResultRepository.count()).thenReturn(5L, 6L);
+
+        assertEquals(5, gameResultService.getGameResultCount());
+        assertEquals(5, gameResultService.getGameResultCount());
+        verify(gameResultRepository, times(1)).count();
+    }
+
+    // PRIVATE METHODS //
+    private GameResultSummary summary() {
+        GameResultSummary summary = mock(GameResultSummary.class);
+        when(summary.getId()).thenReturn(UUID.randomUUID());
+        when(summary.getTimestamp()).thenReturn(LocalDateTime.now());
+        return summary;
+    }
 }
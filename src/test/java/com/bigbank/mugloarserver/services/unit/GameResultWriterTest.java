@@ -0,0 +1,222 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.models.GameResult;
+import com.bigbank.mugloarserver.models.ProcessedMessage;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.GameResultCache;
+import com.bigbank.mugloarserver.services.GameStatePublisher;
+import com.bigbank.mugloarserver.services.implementations.GameResultWriterImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameResultWriter
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameResultWriterTest {
+    private static final long WAIT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+    private final List<GameResultWriterImpl> writers = new ArrayList<>();
+
+    @TempDir
+    private Path tempDir;
+
+    private GameResultRepository gameResultRepository;
+    private GameResultCache gameResultCache;
+    private GameStatePublisher gameStatePublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private Path spoolFile;
+
+    @BeforeEach
+    void setUp() {
+        gameResultRepository = insertingRepository();
+        gameResultCache = mock(GameResultCache.class);
+        gameStatePublisher = mock(GameStatePublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        spoolFile = tempDir.resolve("spool.jsonl");
+    }
+
+    @AfterEach
+    void tearDown() {
+        writers.forEach(GameResultWriterImpl::shutdown);
+    }
+
+    @Test
+    void submit_WrittenInBackground() {
+        GameResultWriterImpl writer = writer();
+
+        assertTrue(writer.submit(gameResult("game1")));
+
+        verify(gameStatePublisher, timeout(WAIT_MILLIS)).publish("game1", "game_result_saved",
+                "Game result saved successfully.");
+        verify(gameResultRepository).insertAllIfAbsent(argThat(results -> containsGameIds(results, "game1")));
+        verify(gameResultCache).put(argThat(result -> "game1".equals(result.getGameId())));
+        assertEquals(0, writer.getPendingCount());
+        assertEquals(1, meterRegistry.get("mugloar.persistence.results").tag("result", "saved").counter().count());
+    }
+
+    @Test
+    void submit_AlreadyPending() {
+        // Blocks the writer on the first result so the second submit finds it pending
+        when(gameResultRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return new boolean[]{true};
+        });
+        GameResultWriterImpl writer = writer();
+        GameResult gameResult = gameResult("game1");
+
+        assertTrue(writer.submit(gameResult));
+        assertFalse(writer.submit(gameResult("game1")));
+        assertSame(gameResult, writer.findPending("game1"));
+    }
+
+    @Test
+    void flush_DuplicateSkipped() throws Exception {
+        GameResultWriterImpl writer = writer();
+        CountDownLatch release = occupyWriter(writer, results -> {
+            boolean[] inserted = new boolean[results.size()];
+
+            for (int i = 0; i < inserted.length; i++) {
+                inserted[i] = !"duplicate".equals(results.get(i).getGameId());
+            }
+            return inserted;
+        });
+
+        writer.submit(gameResult("game1"));
+        writer.submit(gameResult("duplicate"));
+        writer.flush();
+        release.countDown();
+
+        verify(gameResultRepository).insertAllIfAbsent(argThat(results -> containsGameIds(results, "game1",
+                "duplicate")));
+        verify(gameStatePublisher).publish("game1", "game_result_saved", "Game result saved successfully.");
+        verify(gameStatePublisher).publish("duplicate", "duplicate_game_result", "Duplicate game result detected.");
+        verify(gameResultCache, never()).put(argThat(result -> "duplicate".equals(result.getGameId())));
+    }
+
+    @Test
+    void flush_FailedBatchWrittenOneByOne() throws Exception {
+        GameResultWriterImpl writer = writer();
+        CountDownLatch release = occupyWriter(writer, results -> {
+            if (results.size() > 1) {
+                throw new IllegalStateException("Batch failed");
+            }
+            if ("duplicate".equals(results.getFirst().getGameId())) {
+                throw new DataIntegrityViolationException("Duplicate");
+            }
+            return new boolean[]{true};
+        });
+
+        writer.submit(gameResult("game1"));
+        writer.submit(gameResult("duplicate"));
+        writer.flush();
+        release.countDown();
+
+        verify(gameStatePublisher).publish("game1", "game_result_saved", "Game result saved successfully.");
+        verify(gameStatePublisher).publish("duplicate", "duplicate_game_result", "Duplicate game result detected.");
+        assertFalse(Files.exists(spoolFile));
+    }
+
+    @Test
+    void submit_DatabaseDown_SpooledAndRecovered() throws Exception {
+        when(gameResultRepository.insertAllIfAbsent(anyList())).thenThrow(new IllegalStateException("Database is " +
+                "down"));
+        GameResultWriterImpl writer = writer();
+
+        writer.submit(gameResult("game1"));
+
+        verify(gameStatePublisher, timeout(WAIT_MILLIS)).publish("game1", "game_result_save_failed",
+                "Failed to save game result.");
+        assertEquals(1, Files.readAllLines(spoolFile).size());
+
+        GameResultRepository recoveredRepository = insertingRepository();
+        gameResultRepository = recoveredRepository;
+        writer();
+
+        verify(recoveredRepository, timeout(WAIT_MILLIS)).insertAllIfAbsent(argThat(results ->
+                containsGameIds(results, "game1")));
+        assertFalse(Files.exists(spoolFile));
+    }
+
+    // PRIVATE METHODS //
+    private GameResultWriterImpl writer() {
+        GameResultWriterImpl writer = new GameResultWriterImpl(gameResultRepository, gameResultCache,
+                mock(PlatformTransactionManager.class), gameStatePublisher, objectMapper, meterRegistry, 100, 10,
+                Duration.ofSeconds(5), spoolFile.toString());
+        writers.add(writer);
+        return writer;
+    }
+
+    /**
+     * Keeps the writer thread busy inserting a blocker result until the returned latch is released, so results
+     * submitted meanwhile stay queued and a flush writes them as one batch through the given insert.
+     */
+    private CountDownLatch occupyWriter(GameResultWriterImpl writer, Function<List<GameResult>, boolean[]> insert)
+            throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(gameResultRepository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<GameResult> results = invocation.getArgument(0);
+
+            if (containsGameIds(results, "blocker")) {
+                started.countDown();
+                release.await();
+                return new boolean[]{true};
+            }
+            return insert.apply(results);
+        });
+
+        writer.submit(gameResult("blocker"));
+        assertTrue(started.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        return release;
+    }
+
+    private static GameResultRepository insertingRepository() {
+        GameResultRepository repository = mock(GameResultRepository.class);
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            boolean[] inserted = new boolean[invocation.<List<?>>getArgument(0).size()];
+            Arrays.fill(inserted, true);
+            return inserted;
+        });
+        return repository;
+    }
+
+    private static GameResult gameResult(String gameId) {
+        List<ProcessedMessage> processedMessages = new ArrayList<>();
+        processedMessages.add(new ProcessedMessage("ad1", "Help", 1, 50, true, null, "Sure thing"));
+
+        return new GameResult(null, gameId, 50, 50, 3, 50.0, 0, 1, false, LocalDateTime.now(), processedMessages,
+                new ArrayList<>());
+    }
+
+    private static boolean containsGameIds(List<GameResult> results, String... gameIds) {
+        List<String> actual = new ArrayList<>();
+        results.forEach(result -> actual.add(result.getGameId()));
+        return actual.equals(List.of(gameIds));
+    }
+}
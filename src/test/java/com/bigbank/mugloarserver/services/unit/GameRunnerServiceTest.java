@@ -0,0 +1,244 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.exceptions.GameRejectedException;
+import com.bigbank.mugloarserver.facades.GameFacade;
+import com.bigbank.mugloarserver.facades.ReactiveGameFacade;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.implementations.GameRunnerServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.GameRunnerServiceImpl.GameEngine;
+import com.bigbank.mugloarserver.services.implementations.GameRunnerServiceImpl.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameRunnerService
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameRunnerServiceTest {
+    private GameFacade gameFacade;
+    private ReactiveGameFacade reactiveGameFacade;
+    private CountDownLatch release;
+    private GameRunnerServiceImpl gameRunnerService;
+
+    @BeforeEach
+    void setUp() {
+        gameFacade = mock(GameFacade.class);
+        reactiveGameFacade = mock(ReactiveGameFacade.class);
+        release = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(gameFacade).playGame(any(Game.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        gameRunnerService.shutdown();
+    }
+
+    @Test
+    void submit_RunsGameOnVirtualThread() throws InterruptedException {
+        gameRunnerService = newRunner(2, 0, OverflowPolicy.REJECT);
+        CountDownLatch finished = new CountDownLatch(1);
+        boolean[] virtual = new boolean[1];
+
+        doAnswer(invocation -> {
+            virtual[0] = Thread.currentThread().isVirtual();
+            return null;
+        }).when(gameFacade).playGame(any(Game.class));
+
+        gameRunnerService.submit(game("g1"), finished::countDown);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertTrue(virtual[0]);
+    }
+
+    @Test
+    void submit_RejectsWhenAtCapacity() {
+        gameRunnerService = newRunner(1, 0, OverflowPolicy.REJECT);
+
+        gameRunnerService.submit(game("g1"), () -> {
+        });
+
+        assertThrows(GameRejectedException.class, () -> gameRunnerService.submit(game("g2"), () -> {
+        }));
+        assertEquals(1, gameRunnerService.getRunningCount());
+        assertEquals(0, gameRunnerService.getQueuedCount());
+    }
+
+    @Test
+    void submit_QueuesWhenAtCapacity() throws InterruptedException {
+        gameRunnerService = newRunner(1, 1, OverflowPolicy.QUEUE);
+        CountDownLatch finished = new CountDownLatch(2);
+
+        gameRunnerService.submit(game("g1"), finished::countDown);
+        gameRunnerService.submit(game("g2"), finished::countDown);
+
+        assertEquals(1, gameRunnerService.getRunningCount());
+        assertEquals(1, gameRunnerService.getQueuedCount());
+        assertThrows(GameRejectedException.class, () -> gameRunnerService.submit(game("g3"), () -> {
+        }));
+
+        release.countDown();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(0, gameRunnerService.getQueuedCount());
+    }
+
+    @Test
+    void isAtCapacity_CountsQueueSlots() {
+        gameRunnerService = newRunner(1, 1, OverflowPolicy.QUEUE);
+
+        assertFalse(gameRunnerService.isAtCapacity());
+        gameRunnerService.submit(game("g1"), () -> {
+        });
+        assertFalse(gameRunnerService.isAtCapacity());
+        gameRunnerService.submit(game("g2"), () -> {
+        });
+        assertTrue(gameRunnerService.isAtCapacity());
+    }
+
+    @Test
+    void shutdown_QueuedGamesCompleted() throws InterruptedException {
+        gameRunnerService = newRunner(1, 2, OverflowPolicy.QUEUE);
+        CountDownLatch completed = new CountDownLatch(3);
+
+        gameRunnerService.submit(game("g1"), completed::countDown);
+        gameRunnerService.submit(game("g2"), completed::countDown);
+        gameRunnerService.submit(game("g3"), completed::countDown);
+
+        // The interrupted first game finishes, and the queued games behind it can no longer be started
+        gameRunnerService.shutdown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, gameRunnerService.getQueuedCount());
+    }
+
+    @Test
+    void submit_ReactiveEngineSubscribesToReactiveGameLoop() throws InterruptedException {
+        gameRunnerService = new GameRunnerServiceImpl(gameFacade, reactiveGameFacade, new SimpleMeterRegistry(),
+                GameEngine.REACTIVE, 1, 0, OverflowPolicy.REJECT);
+        CountDownLatch finished = new CountDownLatch(1);
+        when(reactiveGameFacade.playGame(any(Game.class))).thenReturn(Mono.empty());
+
+        gameRunnerService.submit(game("g1"), finished::countDown);
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(0, gameRunnerService.getRunningCount());
+        verify(reactiveGameFacade).playGame(any(Game.class));
+        verify(gameFacade, never()).playGame(any(Game.class));
+    }
+
+    @Test
+    void cancel_InterruptsRunningGame() throws InterruptedException {
+        gameRunnerService = newRunner(1, 0, OverflowPolicy.REJECT);
+        CountDownLatch finished = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(gameFacade).playGame(any(Game.class));
+        when(gameFacade.cancelGame(eq("g1"), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return true;
+        });
+
+        gameRunnerService.submit(game("g1"), finished::countDown);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(gameRunnerService.cancel("g1"));
+
+        // Only the interrupt can end the game loop before the release latch times out
+        assertTrue(finished.await(2, TimeUnit.SECONDS));
+        verify(gameFacade, timeout(1000)).releaseGame("g1");
+        assertEquals(0, gameRunnerService.getRunningCount());
+        assertFalse(gameRunnerService.cancel("g1"));
+    }
+
+    @Test
+    void cancel_RefusedWhileFinalizing() throws InterruptedException {
+        gameRunnerService = newRunner(1, 0, OverflowPolicy.REJECT);
+        CountDownLatch started = new CountDownLatch(1);
+        boolean[] interrupted = new boolean[1];
+
+        doAnswer(invocation -> {
+            started.countDown();
+
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted[0] = true;
+            }
+            return null;
+        }).when(gameFacade).playGame(any(Game.class));
+        // GameFacade refuses the cancel because the game loop is already finalizing
+        when(gameFacade.cancelGame(eq("g1"), any(Runnable.class))).thenReturn(false);
+
+        gameRunnerService.submit(game("g1"), () -> {
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertFalse(gameRunnerService.cancel("g1"));
+        release.countDown();
+
+        verify(gameFacade, timeout(5000)).releaseGame("g1");
+        assertFalse(interrupted[0]);
+    }
+
+    @Test
+    void cancel_TerminatesQueuedGame() {
+        gameRunnerService = newRunner(1, 1, OverflowPolicy.QUEUE);
+        boolean[] completed = new boolean[1];
+
+        gameRunnerService.submit(game("g1"), () -> {
+        });
+        gameRunnerService.submit(game("g2"), () -> completed[0] = true);
+
+        assertTrue(gameRunnerService.cancel("g2"));
+
+        assertTrue(completed[0]);
+        assertEquals(0, gameRunnerService.getQueuedCount());
+        verify(gameFacade).terminateGame(argThat(game -> "g2".equals(game.getGameId())), anyList(),
+                eq("Game cancelled before it started."));
+        verify(gameFacade).releaseGame("g2");
+        verify(gameFacade, never()).cancelGame(eq("g2"), any(Runnable.class));
+    }
+
+    @Test
+    void cancel_UnknownGame() {
+        gameRunnerService = newRunner(1, 0, OverflowPolicy.REJECT);
+
+        assertFalse(gameRunnerService.cancel("nope"));
+    }
+
+    // PRIVATE METHODS //
+    private GameRunnerServiceImpl newRunner(int maxConcurrent, int maxQueued, OverflowPolicy policy) {
+        return new GameRunnerServiceImpl(gameFacade, reactiveGameFacade, new SimpleMeterRegistry(),
+                GameEngine.BLOCKING, maxConcurrent, maxQueued, policy);
+    }
+
+    private Game game(String gameId) {
+        Game game = new Game();
+        game.setGameId(gameId);
+        return game;
+    }
+}
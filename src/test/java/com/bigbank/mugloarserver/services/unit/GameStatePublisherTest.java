@@ -0,0 +1,233 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.models.GameStateMessage;
+import com.bigbank.mugloarserver.services.implementations.GameStatePublisherImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GameStatePublisher
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class GameStatePublisherTest {
+    private SimpMessagingTemplate messagingTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private GameStatePublisherImpl gameStatePublisher;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        // A long interval keeps the background flush out of the way; tests flush explicitly
+        gameStatePublisher = new GameStatePublisherImpl(messagingTemplate, meterRegistry, Duration.ofHours(1), 3, 4, 2,
+                Duration.ZERO, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameStatePublisher.shutdown();
+    }
+
+    @Test
+    void publish_NotSentBeforeFlush() {
+        gameStatePublisher.publish("game1", "game_initialized", "Game initialized.");
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void flush_SendsOneFramePerGame() {
+        gameStatePublisher.publish("game1", "investigation_completed", "Investigation phase completed.");
+        gameStatePublisher.publish("game1", "now_solving_message", "Help the village");
+        gameStatePublisher.publish("game2", "game_initialized", "Game initialized.");
+
+        gameStatePublisher.flush();
+
+        List<GameStateMessage> frame = captureFrame("game1");
+        assertEquals(List.of("investigation_completed", "now_solving_message"),
+                frame.stream().map(GameStateMessage::getState).toList());
+        assertEquals(1, captureFrame("game2").size());
+        assertEquals(2, meterRegistry.get("mugloar.websocket.frames").counter().count());
+    }
+
+    @Test
+    void flush_NothingPending() {
+        gameStatePublisher.flush();
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    void publish_RepeatedStateMerged() {
+        gameStatePublisher.publish("game1", "now_solving_message", "First");
+        gameStatePublisher.publish("game1", "now_solving_message", "Second");
+
+        gameStatePublisher.flush();
+
+        List<GameStateMessage> frame = captureFrame("game1");
+        assertEquals(1, frame.size());
+        assertEquals("Second", frame.getFirst().getMessage());
+        assertEquals(1, meterRegistry.get("mugloar.websocket.events").tag("result", "merged").counter().count());
+    }
+
+    @Test
+    void publish_FullFrameDropsOldest() {
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game1", "b", "2");
+        gameStatePublisher.publish("game1", "c", "3");
+        gameStatePublisher.publish("game1", "game_over", "Game Over detected.");
+
+        gameStatePublisher.flush();
+
+        assertEquals(List.of("b", "c", "game_over"),
+                captureFrame("game1").stream().map(GameStateMessage::getState).toList());
+        assertEquals(1, meterRegistry.get("mugloar.websocket.events").tag("result", "dropped").counter().count());
+    }
+
+    @Test
+    void flush_NextFrameStartsEmpty() {
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.flush();
+        gameStatePublisher.flush();
+
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/game-status/game1"), any(Object.class));
+    }
+
+    @Test
+    void getSnapshot_ReplaysSentUpdatesInOrder() {
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game1", "b", "2");
+        gameStatePublisher.flush();
+        gameStatePublisher.publish("game1", "c", "3");
+
+        List<GameStateMessage> snapshot = gameStatePublisher.getSnapshot("game1");
+
+        assertEquals(List.of("a", "b"), snapshot.stream().map(GameStateMessage::getState).toList());
+        assertEquals(List.of(1L, 2L), snapshot.stream().map(GameStateMessage::getSequence).toList());
+    }
+
+    @Test
+    void getSnapshot_KeepsOnlyMostRecent() {
+        for (int i = 1; i <= 6; i++) {
+            gameStatePublisher.publish("game1", "state" + i, String.valueOf(i));
+            gameStatePublisher.flush();
+        }
+
+        assertEquals(List.of("state3", "state4", "state5", "state6"),
+                gameStatePublisher.getSnapshot("game1").stream().map(GameStateMessage::getState).toList());
+    }
+
+    @Test
+    void getSnapshot_UnknownGame() {
+        assertTrue(gameStatePublisher.getSnapshot("unknown").isEmpty());
+    }
+
+    @Test
+    void evictExpired_CompletedGameEvicted() {
+        gameStatePublisher.publish("game1", "game_over", "Game Over detected.");
+        gameStatePublisher.publish("game2", "game_initialized", "Game initialized.");
+        gameStatePublisher.flush();
+
+        gameStatePublisher.complete("game1");
+        gameStatePublisher.evictExpired();
+
+        assertTrue(gameStatePublisher.getSnapshot("game1").isEmpty());
+        assertEquals(1, gameStatePublisher.getSnapshot("game2").size());
+    }
+
+    @Test
+    void evictExpired_OverCapacityEvictsFirstCompleted() {
+        gameStatePublisher = retainingPublisher();
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game2", "a", "1");
+        gameStatePublisher.flush();
+        gameStatePublisher.complete("game1");
+        gameStatePublisher.complete("game2");
+
+        gameStatePublisher.publish("game3", "a", "1");
+        gameStatePublisher.flush();
+        assertEquals(1, gameStatePublisher.getSnapshot("game1").size());
+
+        gameStatePublisher.evictExpired();
+
+        assertTrue(gameStatePublisher.getSnapshot("game1").isEmpty());
+        assertEquals(1, gameStatePublisher.getSnapshot("game2").size());
+        assertEquals(1, gameStatePublisher.getSnapshot("game3").size());
+    }
+
+    @Test
+    void evictExpired_OverCapacityKeepsLiveGames() {
+        gameStatePublisher = retainingPublisher();
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game2", "a", "1");
+        gameStatePublisher.publish("game3", "a", "1");
+        gameStatePublisher.flush();
+
+        gameStatePublisher.evictExpired();
+
+        assertEquals(1, gameStatePublisher.getSnapshot("game1").size());
+        assertEquals(1, gameStatePublisher.getSnapshot("game3").size());
+    }
+
+    @Test
+    void evictExpired_OverCapacityKeepsGamesWithPendingUpdates() {
+        gameStatePublisher = retainingPublisher();
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game2", "a", "1");
+        gameStatePublisher.flush();
+        gameStatePublisher.complete("game1");
+        gameStatePublisher.complete("game2");
+        gameStatePublisher.publish("game1", "b", "2");
+        gameStatePublisher.publish("game3", "a", "1");
+
+        gameStatePublisher.evictExpired();
+
+        assertEquals(1, gameStatePublisher.getSnapshot("game1").size());
+        assertTrue(gameStatePublisher.getSnapshot("game2").isEmpty());
+    }
+
+    @Test
+    void publish_SequenceContinuesAfterEviction() {
+        gameStatePublisher.shutdown();
+        gameStatePublisher = new GameStatePublisherImpl(messagingTemplate, meterRegistry, Duration.ofHours(1), 3, 4,
+                2, Duration.ZERO, Duration.ZERO);
+        gameStatePublisher.publish("game1", "a", "1");
+        gameStatePublisher.publish("game1", "b", "2");
+        gameStatePublisher.flush();
+        long lastSequence = gameStatePublisher.getSnapshot("game1").getLast().getSequence();
+
+        gameStatePublisher.evictExpired();
+        assertTrue(gameStatePublisher.getSnapshot("game1").isEmpty());
+
+        gameStatePublisher.publish("game1", "c", "3");
+        gameStatePublisher.flush();
+
+        assertTrue(gameStatePublisher.getSnapshot("game1").getFirst().getSequence() > lastSequence);
+    }
+
+    // PRIVATE METHODS //
+    private GameStatePublisherImpl retainingPublisher() {
+        gameStatePublisher.shutdown();
+        return new GameStatePublisherImpl(messagingTemplate, meterRegistry, Duration.ofHours(1), 3, 4, 2,
+                Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GameStateMessage> captureFrame(String gameId) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/game-status/" + gameId), captor.capture());
+        return (List<GameStateMessage>) captor.getValue();
+    }
+}
@@ -2,13 +2,17 @@ package com.bigbank.mugloarserver.services.unit;
 
 import com.bigbank.mugloarserver.models.ShopItem;
 import com.bigbank.mugloarserver.services.implementations.InventoryServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for InventoryService
@@ -17,12 +21,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * @created 14.12.2024
  */
 public class InventoryServiceTest {
-    @InjectMocks
     private InventoryServiceImpl inventoryService;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        inventoryService = new InventoryServiceImpl(new SimpleMeterRegistry(), Duration.ofMinutes(30));
     }
 
     @Test
@@ -62,4 +65,68 @@ public class InventoryServiceTest {
         assertTrue(inventoryService.hasItem("game1", new ShopItem("1", "itemX", 100)));
         assertTrue(inventoryService.hasItem("game1", new ShopItem("2", "itemY", 120)));
     }
+
+    @Test
+    void getAllByGameId_ExpandsCounts() {
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50);
+        inventoryService.addItem("game1", hpot);
+        inventoryService.addItem("game1", hpot);
+        assertEquals(List.of(hpot, hpot), inventoryService.getAllByGameId("game1"));
+    }
+
+    @Test
+    void getAllByGameId_KeepsPurchaseOrder() {
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50);
+        ShopItem sword = new ShopItem("sword", "Excalibur Sword", 300);
+        inventoryService.addItem("game1", hpot);
+        inventoryService.addItem("game1", sword);
+        inventoryService.addItem("game1", hpot);
+        assertEquals(List.of(hpot, sword, hpot), inventoryService.getAllByGameId("game1"));
+    }
+
+    @Test
+    void addItem_ConcurrentAppends() {
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            IntStream.range(0, 1000).forEach(i -> executor.submit(() -> inventoryService.addItem("game1", hpot)));
+        }
+
+        assertEquals(1000, inventoryService.getAllByGameId("game1").size());
+    }
+
+    @Test
+    void releaseGame_DropsInventory() {
+        inventoryService.addItem("game1", new ShopItem("1", "itemX", 100));
+        inventoryService.releaseGame("game1");
+        assertTrue(inventoryService.getAllByGameId("game1").isEmpty());
+    }
+
+    @Test
+    void evictExpired_DropsUntouchedInventories() {
+        inventoryService = new InventoryServiceImpl(new SimpleMeterRegistry(), Duration.ZERO);
+        inventoryService.addItem("game1", new ShopItem("1", "itemX", 100));
+        inventoryService.evictExpired();
+        assertFalse(inventoryService.hasItem("game1", new ShopItem("1", "itemX", 100)));
+    }
+
+    @Test
+    void evictExpired_KeepsTouchedInventories() throws InterruptedException {
+        inventoryService = new InventoryServiceImpl(new SimpleMeterRegistry(), Duration.ofMillis(200));
+        inventoryService.addItem("game1", new ShopItem("1", "itemX", 100));
+
+        // The game is still played but buys nothing for longer than the TTL
+        Thread.sleep(300);
+        inventoryService.touch("game1");
+        inventoryService.evictExpired();
+
+        assertEquals(1, inventoryService.getAllByGameId("game1").size());
+    }
+
+    @Test
+    void evictExpired_KeepsActiveInventories() {
+        inventoryService.addItem("game1", new ShopItem("1", "itemX", 100));
+        inventoryService.evictExpired();
+        assertTrue(inventoryService.hasItem("game1", new ShopItem("1", "itemX", 100)));
+    }
 }
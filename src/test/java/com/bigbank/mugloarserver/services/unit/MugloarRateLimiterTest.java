@@ -0,0 +1,231 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.implementations.MugloarRateLimiterImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarResilienceServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.ReactiveMugloarServiceImpl;
+import com.bigbank.mugloarserver.simulator.MugloarSimulator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MugloarRateLimiter
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class MugloarRateLimiterTest {
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(10);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MugloarSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.stop();
+        }
+    }
+
+    @Test
+    void acquire_BurstGoesThroughImmediately() {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(10, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire("game1", "messages").block(BLOCK_TIMEOUT);
+        }
+
+        assertTrue(elapsedMillis(start) < 100);
+        assertEquals(5, meterRegistry.get("mugloar.api.rate-limit.waits").tag("endpoint", "messages").timer()
+                .count());
+    }
+
+    @Test
+    void acquire_WaitsBeyondBurst() {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(20, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire("game1", "messages").block(BLOCK_TIMEOUT);
+        }
+
+        // The first permit is in the bucket, the other four come one every 50 ms
+        assertTrue(elapsedMillis(start) >= 180);
+        assertEquals(0, rateLimiter.getWaitingCount());
+    }
+
+    @Test
+    void acquire_HeavierEndpointTakesMorePermits() {
+        MugloarRateLimiterImpl rateLimiter = new MugloarRateLimiterImpl(meterRegistry, 20, 1,
+                new String[]{"solve=4", "messages=1"});
+
+        long start = System.nanoTime();
+        rateLimiter.acquire("game1", "solve").block(BLOCK_TIMEOUT);
+        rateLimiter.acquire("game1", "solve").block(BLOCK_TIMEOUT);
+
+        // The bucket grows to hold one solve, and the second solve waits for four permits of 50 ms each
+        assertTrue(elapsedMillis(start) >= 180);
+    }
+
+    @Test
+    void malformedWeightsIgnored() {
+        MugloarRateLimiterImpl rateLimiter = new MugloarRateLimiterImpl(meterRegistry, 20, 1,
+                new String[]{"solve=heavy", "=2", "buy", "messages=1"});
+
+        long start = System.nanoTime();
+        rateLimiter.acquire("game1", "solve").block(BLOCK_TIMEOUT);
+
+        // Falls back to a weight of 1, which the burst of 1 lets through right away
+        assertTrue(elapsedMillis(start) < 40);
+    }
+
+    @Test
+    void acquire_CallsOfOneGameServedInOrder() throws InterruptedException {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(500, 1);
+        List<Integer> grants = Collections.synchronizedList(new ArrayList<>());
+        int calls = 200;
+        CountDownLatch granted = new CountDownLatch(calls);
+
+        // The queue of the game keeps emptying and refilling while the drain drops empty queues
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            rateLimiter.acquire("game1", "messages").subscribe(null, null, () -> {
+                grants.add(call);
+                granted.countDown();
+            });
+
+            if (i % 3 == 0) {
+                Thread.sleep(1);
+            }
+        }
+
+        assertTrue(granted.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, calls).boxed().toList(), grants);
+    }
+
+    @Test
+    void acquire_GamesServedInTurns() throws InterruptedException {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(50, 1);
+        List<String> grants = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch granted = new CountDownLatch(11);
+
+        // The greedy game queues ten calls at once, the other game a single one right after
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire("greedy", "messages").subscribe(null, null, () -> {
+                grants.add("greedy");
+                granted.countDown();
+            });
+        }
+        rateLimiter.acquire("other", "messages").subscribe(null, null, () -> {
+            grants.add("other");
+            granted.countDown();
+        });
+
+        assertTrue(granted.await(5, TimeUnit.SECONDS));
+        assertTrue(grants.indexOf("other") <= 2, "Other game was served after " + grants);
+    }
+
+    @Test
+    void acquire_CancelledCallSkipped() throws InterruptedException {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(20, 1);
+        rateLimiter.acquire("game1", "messages").block(BLOCK_TIMEOUT);
+
+        Disposable cancelled = rateLimiter.acquire("game1", "messages").subscribe();
+        CountDownLatch granted = new CountDownLatch(1);
+        rateLimiter.acquire("game2", "messages").subscribe(null, null, granted::countDown);
+        cancelled.dispose();
+
+        assertTrue(granted.await(5, TimeUnit.SECONDS));
+        assertEquals(0, rateLimiter.getWaitingCount());
+    }
+
+    @Test
+    void acquire_DisabledNeverWaits() {
+        MugloarRateLimiterImpl rateLimiter = rateLimiter(0, 1);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.acquire("game1", "messages").block(BLOCK_TIMEOUT);
+        }
+
+        assertTrue(elapsedMillis(start) < 100);
+    }
+
+    @Test
+    void concurrentGamesAgainstSimulator_StayWithinRate() throws Exception {
+        simulator = new MugloarSimulator(3L, Duration.ZERO, 0.0, 10, 1000);
+        simulator.start("localhost", 0);
+        AtomicInteger requests = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(simulator.getBaseUrl())
+                .filter((request, next) -> {
+                    requests.incrementAndGet();
+                    return next.exchange(request);
+                })
+                .build();
+        MugloarServiceImpl mugloarService = new MugloarServiceImpl(new ReactiveMugloarServiceImpl(webClient,
+                JsonMapper.builder().build(), new MugloarResilienceServiceImpl(meterRegistry, new String[0], 1,
+                Duration.ZERO, Duration.ZERO, 0, Integer.MAX_VALUE, Duration.ZERO), rateLimiter(100, 5),
+                meterRegistry));
+
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> games = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                games.add(executor.submit(() -> {
+                    Game game = mugloarService.startGame();
+
+                    for (int turn = 0; turn < 10; turn++) {
+                        mugloarService.getMessages(game.getGameId());
+                    }
+                    return 11;
+                }));
+            }
+
+            for (Future<Integer> game : games) {
+                assertEquals(11, game.get(BLOCK_TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+            }
+        }
+
+        // 44 calls at 100 per second, of which the first 5 are in the bucket
+        assertEquals(44, requests.get());
+        assertTrue(elapsedMillis(start) >= 350, "44 calls took only " + elapsedMillis(start) + " ms");
+    }
+
+    // PRIVATE METHODS //
+    private MugloarRateLimiterImpl rateLimiter(double permitsPerSecond, int burst) {
+        return new MugloarRateLimiterImpl(meterRegistry, permitsPerSecond, burst, new String[0]);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,154 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.services.MugloarResilienceService.CircuitState;
+import com.bigbank.mugloarserver.services.implementations.MugloarResilienceServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MugloarResilienceService
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class MugloarResilienceServiceTest {
+    private static final Duration OPEN_DURATION = Duration.ofMillis(200);
+    private static final Duration BLOCK_TIMEOUT = Duration.ofSeconds(5);
+    private static final Predicate<Throwable> ALL_TRANSIENT = e -> true;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MugloarResilienceServiceImpl resilienceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        resilienceService = new MugloarResilienceServiceImpl(meterRegistry, new String[]{"messages"}, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), 0.5, 2, OPEN_DURATION);
+    }
+
+    @Test
+    void guard_GetRetriedUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() < 3 ? Mono.error(new IllegalStateException(
+                "Down")) : Mono.just("ok"));
+
+        assertEquals("ok", resilienceService.guard("messages", HttpMethod.GET, call, ALL_TRANSIENT)
+                .block(BLOCK_TIMEOUT));
+        assertEquals(3, attempts.get());
+        assertEquals(CircuitState.CLOSED, resilienceService.getCircuitState());
+    }
+
+    @Test
+    void guard_EndpointWithoutPolicyNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> resilienceService.guard("shop", HttpMethod.GET,
+                failingCall(attempts), ALL_TRANSIENT).block(BLOCK_TIMEOUT));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void guard_FinalAnswerNeitherRetriedNorCounted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> resilienceService.guard("messages", HttpMethod.GET,
+                    failingCall(attempts), e -> false).block(BLOCK_TIMEOUT));
+        }
+
+        assertEquals(3, attempts.get());
+        assertEquals(CircuitState.CLOSED, resilienceService.getCircuitState());
+    }
+
+    @Test
+    void circuit_OpensAndPausesCallsUntilTrialSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+        openCircuit(attempts);
+
+        long start = System.nanoTime();
+        assertEquals("ok", resilienceService.guard("solve", HttpMethod.POST, Mono.just("ok"), ALL_TRANSIENT)
+                .block(BLOCK_TIMEOUT));
+
+        // The call was held back for the open period instead of failing fast
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(OPEN_DURATION.dividedBy(2)) >= 0);
+        assertEquals(CircuitState.CLOSED, resilienceService.getCircuitState());
+        assertEquals(1, transitions("closed", "open"));
+        assertEquals(1, transitions("open", "half_open"));
+        assertEquals(1, transitions("half_open", "closed"));
+        assertEquals(1, meterRegistry.get("mugloar.api.circuit-breaker.waits").timer().count());
+    }
+
+    @Test
+    void circuit_FailedTrialOpensAgain() {
+        AtomicInteger attempts = new AtomicInteger();
+        openCircuit(attempts);
+
+        assertThrows(IllegalStateException.class, () -> resilienceService.guard("solve", HttpMethod.POST,
+                failingCall(attempts), ALL_TRANSIENT).block(BLOCK_TIMEOUT));
+
+        assertEquals(CircuitState.OPEN, resilienceService.getCircuitState());
+        assertEquals(1, transitions("half_open", "open"));
+        assertEquals(1, meterRegistry.get("mugloar.api.circuit-breaker.state").tag("state", "open").gauge()
+                .value());
+    }
+
+    @Test
+    void circuit_CancelledWaitingCallKeepsTrialInFlight() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        openCircuit(attempts);
+        Thread.sleep(OPEN_DURATION.toMillis());
+
+        // The first call becomes the trial and stays in flight, the second one waits behind it
+        Disposable trialCall = resilienceService.guard("solve", HttpMethod.POST, Mono.never(), ALL_TRANSIENT)
+                .subscribe();
+        assertEquals(CircuitState.HALF_OPEN, resilienceService.getCircuitState());
+        resilienceService.guard("solve", HttpMethod.POST, Mono.just("ok"), ALL_TRANSIENT).subscribe().dispose();
+
+        AtomicInteger admitted = new AtomicInteger();
+        Disposable nextCall = resilienceService.guard("solve", HttpMethod.POST, Mono.fromRunnable(
+                admitted::incrementAndGet), ALL_TRANSIENT).subscribe();
+        Thread.sleep(OPEN_DURATION.toMillis());
+
+        assertEquals(0, admitted.get());
+
+        // Cancelling the trial itself lets the next call become the trial
+        trialCall.dispose();
+        Thread.sleep(OPEN_DURATION.toMillis());
+
+        assertEquals(1, admitted.get());
+        assertEquals(CircuitState.CLOSED, resilienceService.getCircuitState());
+        nextCall.dispose();
+    }
+
+    // PRIVATE METHODS //
+    private void openCircuit(AtomicInteger attempts) {
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> resilienceService.guard("solve", HttpMethod.POST,
+                    failingCall(attempts), ALL_TRANSIENT).block(BLOCK_TIMEOUT));
+        }
+
+        assertEquals(CircuitState.OPEN, resilienceService.getCircuitState());
+    }
+
+    private static Mono<String> failingCall(AtomicInteger attempts) {
+        return Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("Down"));
+        });
+    }
+
+    private double transitions(String from, String to) {
+        return meterRegistry.get("mugloar.api.circuit-breaker.transitions").tags("from", from, "to", to).counter()
+                .count();
+    }
+}
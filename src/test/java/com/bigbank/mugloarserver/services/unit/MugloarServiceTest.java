@@ -1,22 +1,29 @@
 package com.bigbank.mugloarserver.services.unit;
 
+import com.bigbank.mugloarserver.exceptions.GameOverException;
 import com.bigbank.mugloarserver.exceptions.MugloarException;
 import com.bigbank.mugloarserver.models.*;
+import com.bigbank.mugloarserver.services.implementations.MugloarRateLimiterImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarResilienceServiceImpl;
 import com.bigbank.mugloarserver.services.implementations.MugloarServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.ReactiveMugloarServiceImpl;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for MugloarService
@@ -25,38 +32,46 @@ import static org.mockito.Mockito.*;
  * @created 14.12.2024
  */
 public class MugloarServiceTest {
-    @InjectMocks
     MugloarServiceImpl mugloarService;
 
-    WebClient webClient;
+    ReactiveMugloarServiceImpl reactiveMugloarService;
 
-    WebClient.RequestHeadersUriSpec<?> getSpec;
-    WebClient.RequestBodyUriSpec postSpec;
-    WebClient.ResponseSpec responseSpec;
+    Map<String, ClientResponse> responses;
+
+    Map<String, Deque<ClientResponse>> queuedResponses;
+
+    List<String> requests;
+
+    SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
-        webClient = mock(WebClient.class, RETURNS_DEEP_STUBS);
-        mugloarService = new MugloarServiceImpl("http://localhost");
-        mugloarService.webClient = webClient;
-        getSpec = mock(WebClient.RequestHeadersUriSpec.class, RETURNS_DEEP_STUBS);
-        postSpec = mock(WebClient.RequestBodyUriSpec.class, RETURNS_DEEP_STUBS);
-        responseSpec = mock(WebClient.ResponseSpec.class, RETURNS_DEEP_STUBS);
+        responses = new HashMap<>();
+        queuedResponses = new HashMap<>();
+        requests = new ArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost")
+                .exchangeFunction(request -> {
+                    String key = request.method() + " " + request.url().getPath();
+                    requests.add(key);
+                    Deque<ClientResponse> queued = queuedResponses.getOrDefault(key, new ArrayDeque<>());
+
+                    return Mono.justOrEmpty(queued.isEmpty() ? responses.get(key) : queued.poll())
+                            .switchIfEmpty(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.NOT_FOUND)
+                                    .build()));
+                })
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        reactiveMugloarService = new ReactiveMugloarServiceImpl(webClient,
+                JsonMapper.builder().addModule(new BlackbirdModule()).build(), resilienceService(),
+                new MugloarRateLimiterImpl(meterRegistry, 0, 1, new String[0]), meterRegistry);
+        mugloarService = new MugloarServiceImpl(reactiveMugloarService);
     }
 
     @Test
     void startGameSuccess() {
-        String rawResponse = "{\"gameId\":\"g123\",\"lives\":3,\"gold\":100.0,\"level\":1,\"score\":0," +
-                "\"highScore\":0,\"turn\":0}";
-
-        when(webClient.post()
-                .uri(eq("/game/start"))
-                .retrieve()
-                .onStatus(any(), any())
-                .bodyToMono(String.class)
-                .blockOptional())
-                .thenReturn(Optional.of(rawResponse));
+        mockPost("/game/start", "{\"gameId\":\"g123\",\"lives\":3,\"gold\":100.0,\"level\":1,\"score\":0," +
+                "\"highScore\":0,\"turn\":0}");
 
         Game g = mugloarService.startGame();
 
@@ -65,17 +80,13 @@ public class MugloarServiceTest {
 
     @Test
     void startGameNull() {
-        mockPostNull("/game/start");
+        mockPost("/game/start", "");
         assertThrows(MugloarException.class, () -> mugloarService.startGame());
     }
 
     @Test
     void investigateSuccess() {
-        when(webClient.post().uri(eq("/{gameId}/investigate/reputation"), (Object[]) any()).retrieve()
-                .onStatus(any(), any())
-                .bodyToMono(String.class)
-                .blockOptional())
-                .thenReturn(Optional.of("{\"people\":5,\"state\":5,\"underworld\":10}"));
+        mockPost("/test/investigate/reputation", "{\"people\":5,\"state\":5,\"underworld\":10}");
 
         Investigation i = mugloarService.investigate("test");
         assertEquals(5, i.getPeople());
@@ -83,36 +94,47 @@ public class MugloarServiceTest {
 
     @Test
     void investigateNull() {
-        mockPostNull("/{gameId}/investigate/reputation");
+        mockPost("/test/investigate/reputation", "");
         assertThrows(MugloarException.class, () -> mugloarService.investigate("test"));
     }
 
     @Test
     void getMessagesSuccess() {
-        mockGet("/{gameId}/messages", "[{\"adId\":\"ad1\",\"message\":\"msg\",\"reward\":10,\"expiresIn\":3," +
-                "\"probability\":\"Sure\"}]");
+        mockGet("/test/messages", "[{\"adId\":\"ad1\",\"message\":\"msg\",\"reward\":10,\"expiresIn\":3," +
+                "\"probability\":\"Sure thing\"}]");
         List<Message> messages = mugloarService.getMessages("test");
         assertEquals(1, messages.size());
         assertEquals("ad1", messages.getFirst().getDecodedAdId());
+        assertEquals(ProbabilityLabel.SURE_THING, messages.getFirst().getProbabilityLabel());
+    }
+
+    @Test
+    void getMessagesDecodesEncryptedMessages() {
+        mockGet("/test/messages", "[{\"adId\":\"YWQx\",\"message\":\"SGVscCB0aGUgdmlsbGFnZQ==\"," +
+                "\"reward\":\"25\",\"expiresIn\":3,\"encrypted\":1,\"probability\":\"Sure\"}]");
+        Message message = mugloarService.getMessages("test").getFirst();
+        assertEquals("ad1", message.getDecodedAdId());
+        assertEquals("Help the village", message.getDecodedMessage());
+        assertEquals(25, message.getIntReward());
+    }
+
+    @Test
+    void getMessagesInvalidReward() {
+        mockGet("/test/messages", "[{\"adId\":\"ad1\",\"message\":\"msg\",\"reward\":\"lots\"," +
+                "\"expiresIn\":3}]");
+        assertThrows(MugloarException.class, () -> mugloarService.getMessages("test"));
     }
 
     @Test
     void getMessagesNull() {
-        mockGetNull("/{gameId}/messages");
+        mockGet("/test/messages", "");
         assertThrows(MugloarException.class, () -> mugloarService.getMessages("test"));
     }
 
     @Test
     void solveMessageSuccess() {
-        String rawResponse = "{\"success\":true,\"lives\":3,\"gold\":120.0,\"score\":50,\"highScore\":100,\"turn\":1}";
-
-        when(webClient.post()
-                .uri(eq("/{gameId}/solve/{adId}"), eq("test"), eq("adX"))
-                .retrieve()
-                .onStatus(any(), any())
-                .bodyToMono(String.class)
-                .blockOptional())
-                .thenReturn(Optional.of(rawResponse));
+        mockPost("/test/solve/adX", "{\"success\":true,\"lives\":3,\"gold\":120.0,\"score\":50,\"highScore\":100," +
+                "\"turn\":1}");
 
         MessageSolveResponse r = mugloarService.solveMessage("test", "adX");
         assertTrue(r.isSuccess());
@@ -121,13 +143,19 @@ public class MugloarServiceTest {
 
     @Test
     void solveMessageNull() {
-        mockPostNull("/{gameId}/solve/{adId}");
+        mockPost("/test/solve/adX", "");
         assertThrows(MugloarException.class, () -> mugloarService.solveMessage("test", "adX"));
     }
 
+    @Test
+    void solveMessageGameOver() {
+        responses.put("POST /test/solve/adX", jsonResponse(HttpStatus.GONE, "{\"status\":\"Game Over\"}"));
+        assertThrows(GameOverException.class, () -> mugloarService.solveMessage("test", "adX"));
+    }
+
     @Test
     void getShopItemsSuccess() {
-        mockGet("/{gameId}/shop", "[{\"id\":\"hpot\",\"name\":\"Healing Potion\",\"cost\":50.0}]");
+        mockGet("/test/shop", "[{\"id\":\"hpot\",\"name\":\"Healing Potion\",\"cost\":50.0}]");
         List<ShopItem> items = mugloarService.getShopItems("test");
         assertEquals(1, items.size());
         assertEquals("hpot", items.getFirst().getId());
@@ -135,22 +163,14 @@ public class MugloarServiceTest {
 
     @Test
     void getShopItemsNull() {
-        mockGetNull("/{gameId}/shop");
+        mockGet("/test/shop", "");
         assertThrows(MugloarException.class, () -> mugloarService.getShopItems("test"));
     }
 
     @Test
     void buyItemSuccess() {
-        String rawResponse = "{\"shoppingSuccess\":\"SUCCESS\",\"gold\":70.0,\"lives\":3,\"level\":2," +
-                "\"turn\":2}";
-
-        when(webClient.post()
-                .uri(eq("/{gameId}/shop/buy/{itemId}"), eq("test"), eq("hpot"))
-                .retrieve()
-                .onStatus(any(), any())
-                .bodyToMono(String.class)
-                .blockOptional())
-                .thenReturn(Optional.of(rawResponse));
+        mockPost("/test/shop/buy/hpot", "{\"shoppingSuccess\":\"SUCCESS\",\"gold\":70.0,\"lives\":3,\"level\":2," +
+                "\"turn\":2}");
 
         ShopPurchaseResponse r = mugloarService.buyItem("test", "hpot");
         assertEquals("SUCCESS", r.getShoppingSuccess());
@@ -158,26 +178,117 @@ public class MugloarServiceTest {
 
     @Test
     void buyItemNull() {
-        mockPostNull("/{gameId}/shop/buy/{itemId}");
+        mockPost("/test/shop/buy/hpot", "");
         assertThrows(MugloarException.class, () -> mugloarService.buyItem("test", "hpot"));
     }
 
     @Test
     void isGameOverTrue() throws Exception {
-        Method m = MugloarServiceImpl.class.getDeclaredMethod("isGameOver", String.class);
+        Method m = ReactiveMugloarServiceImpl.class.getDeclaredMethod("isGameOver", byte[].class);
         m.setAccessible(true);
-        boolean result = (boolean) m.invoke(mugloarService, "{\"status\":\"Game Over\"}");
+        boolean result = (boolean) m.invoke(reactiveMugloarService,
+                "{\"nested\":{\"status\":\"ongoing\"},\"status\":\"Game Over\"}".getBytes());
         assertTrue(result);
     }
 
     @Test
     void isGameOverFalse() throws Exception {
-        Method m = MugloarServiceImpl.class.getDeclaredMethod("isGameOver", String.class);
+        Method m = ReactiveMugloarServiceImpl.class.getDeclaredMethod("isGameOver", byte[].class);
         m.setAccessible(true);
-        boolean result = (boolean) m.invoke(mugloarService, "{\"status\":\"ongoing\"}");
+        boolean result = (boolean) m.invoke(reactiveMugloarService,
+                "[{\"status\":\"Game Over\"}]".getBytes());
         assertFalse(result);
     }
 
+    @Test
+    void startGameGameOverBody() {
+        mockPost("/game/start", "{\"gameId\":\"g123\",\"status\":\"Game Over\"}");
+        assertThrows(GameOverException.class, () -> mugloarService.startGame());
+    }
+
+    @Test
+    void getMessagesGameOverBody() {
+        mockGet("/test/messages", "{\"status\":\"Game Over\"}");
+        assertThrows(GameOverException.class, () -> mugloarService.getMessages("test"));
+    }
+
+    @Test
+    void getMessagesIgnoresNestedStatus() {
+        mockGet("/test/messages", "[{\"adId\":\"ad1\",\"message\":\"msg\",\"reward\":10,\"expiresIn\":3," +
+                "\"probability\":\"Sure\",\"status\":\"Game Over\"}]");
+        assertEquals(1, mugloarService.getMessages("test").size());
+    }
+
+    @Test
+    void metrics_SuccessTimed() {
+        mockPost("/test/investigate/reputation", "{\"people\":5,\"state\":5,\"underworld\":10}");
+
+        mugloarService.investigate("test");
+
+        assertEquals(1, requestCount("investigate", "success"));
+    }
+
+    @Test
+    void metrics_GameOverCounted() {
+        mockGet("/test/messages", "{\"status\":\"Game Over\"}");
+
+        assertThrows(GameOverException.class, () -> mugloarService.getMessages("test"));
+
+        assertEquals(1, requestCount("messages", "game_over"));
+        assertEquals(1, meterRegistry.get("mugloar.api.game-over").tag("endpoint", "messages").counter().count());
+        assertEquals(0, meterRegistry.get("mugloar.api.game-over").tag("endpoint", "solve").counter().count());
+    }
+
+    @Test
+    void metrics_ErrorOutcomes() {
+        responses.put("POST /test/shop/buy/hpot", jsonResponse(HttpStatus.INTERNAL_SERVER_ERROR, "{}"));
+        mockGet("/test/shop", "");
+        mockPost("/test/solve/adX", "{\"success\":");
+
+        assertThrows(MugloarException.class, () -> mugloarService.buyItem("test", "hpot"));
+        assertThrows(MugloarException.class, () -> mugloarService.getShopItems("test"));
+        assertThrows(MugloarException.class, () -> mugloarService.solveMessage("test", "adX"));
+
+        assertEquals(1, requestCount("buy", "http_error"));
+        assertEquals(1, requestCount("shop", "parse_error"));
+        assertEquals(1, requestCount("solve", "parse_error"));
+    }
+
+    @Test
+    void getMessages_RetriedAfterServerError() {
+        queuedResponses.put("GET /test/messages", new ArrayDeque<>(List.of(
+                jsonResponse(HttpStatus.SERVICE_UNAVAILABLE, "{}"),
+                jsonResponse(HttpStatus.BAD_GATEWAY, "{}"))));
+        mockGet("/test/messages", "[{\"adId\":\"ad1\",\"message\":\"msg\",\"reward\":10,\"expiresIn\":3," +
+                "\"probability\":\"Sure\"}]");
+
+        assertEquals(1, mugloarService.getMessages("test").size());
+
+        assertEquals(3, Collections.frequency(requests, "GET /test/messages"));
+        assertEquals(2, requestCount("messages", "http_error"));
+        assertEquals(2, meterRegistry.get("mugloar.api.retries").tag("endpoint", "messages").counter().count());
+    }
+
+    @Test
+    void getShopItems_NotRetriedAfterClientError() {
+        responses.put("GET /test/shop", jsonResponse(HttpStatus.BAD_REQUEST, "{}"));
+
+        assertThrows(MugloarException.class, () -> mugloarService.getShopItems("test"));
+
+        assertEquals(1, Collections.frequency(requests, "GET /test/shop"));
+    }
+
+    @Test
+    void solveMessage_PostNotRetried() {
+        queuedResponses.put("POST /test/solve/ad1", new ArrayDeque<>(List.of(
+                jsonResponse(HttpStatus.SERVICE_UNAVAILABLE, "{}"))));
+        mockPost("/test/solve/ad1", "{\"success\":true,\"lives\":3,\"gold\":10,\"score\":10,\"turn\":1}");
+
+        assertThrows(MugloarException.class, () -> mugloarService.solveMessage("test", "ad1"));
+
+        assertEquals(1, Collections.frequency(requests, "POST /test/solve/ad1"));
+    }
+
     @Test
     void validateGameId_Blank() {
         assertThrows(MugloarException.class, () -> invokePrivate("validateGameId", ""));
@@ -201,35 +312,44 @@ public class MugloarServiceTest {
     }
 
     // PRIVATE METHODS //
-    private void mockGet(String uri, String raw) {
-        when(webClient.get().uri(eq(uri), eq("test")).retrieve().onStatus(any(), any()).bodyToMono(String.class).blockOptional())
-                .thenReturn(Optional.of(raw));
+    private void mockGet(String path, String raw) {
+        responses.put("GET " + path, jsonResponse(HttpStatus.OK, raw));
+    }
+
+    private void mockPost(String path, String raw) {
+        responses.put("POST " + path, jsonResponse(HttpStatus.OK, raw));
+    }
+
+    private MugloarResilienceServiceImpl resilienceService() {
+        return new MugloarResilienceServiceImpl(meterRegistry, new String[]{"messages", "shop"}, 3,
+                Duration.ofMillis(1), Duration.ofMillis(5), 0.5, 1000, Duration.ofMillis(50));
     }
 
-    private void mockGetNull(String uri) {
-        when(webClient.get().uri(eq(uri), eq("test")).retrieve().onStatus(any(), any()).bodyToMono(String.class).blockOptional())
-                .thenReturn(Optional.empty());
+    private long requestCount(String endpoint, String outcome) {
+        return meterRegistry.get("mugloar.api.requests").tags("endpoint", endpoint, "outcome", outcome).timer()
+                .count();
     }
 
-    private void mockPostNull(String uri) {
-        when(webClient.post().uri(eq(uri), (Object[]) any()).retrieve()
-                .onStatus(any(), any())
-                .bodyToMono(String.class)
-                .blockOptional())
-                .thenReturn(Optional.empty());
+    private ClientResponse jsonResponse(HttpStatus status, String body) {
+        return ClientResponse.create(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
     }
 
     private void invokePrivate(String methodName, Object arg) {
         try {
-            Method m = arg instanceof Game ? MugloarServiceImpl.class.getDeclaredMethod(methodName, Game.class)
-                    : arg instanceof Message ? MugloarServiceImpl.class.getDeclaredMethod(methodName, Message.class)
-                    : arg instanceof ShopItem ? MugloarServiceImpl.class.getDeclaredMethod(methodName, ShopItem.class)
-                    : MugloarServiceImpl.class.getDeclaredMethod(methodName, String.class);
+            Method m = arg instanceof Game ? ReactiveMugloarServiceImpl.class.getDeclaredMethod(methodName, Game.class)
+                    : arg instanceof Message ? ReactiveMugloarServiceImpl.class.getDeclaredMethod(methodName,
+                    Message.class)
+                    : arg instanceof ShopItem ? ReactiveMugloarServiceImpl.class.getDeclaredMethod(methodName,
+                    ShopItem.class)
+                    : ReactiveMugloarServiceImpl.class.getDeclaredMethod(methodName, String.class);
             m.setAccessible(true);
-            m.invoke(mugloarService, arg);
+            m.invoke(reactiveMugloarService, arg);
         } catch (Exception e) {
             if (e.getCause() != null) throw (RuntimeException) e.getCause();
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.services.implementations.ShopCatalogServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ShopCatalogService
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class ShopCatalogServiceTest {
+    private final ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50.0);
+    private final ShopItem wingpot = new ShopItem("wingpot", "Potion of Stronger Wings", 100.0);
+
+    private ShopCatalogServiceImpl shopCatalogService;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        shopCatalogService = new ShopCatalogServiceImpl(new SimpleMeterRegistry(), Duration.ofMinutes(1), 3);
+
+        game = new Game();
+        game.setGameId("game1");
+        game.setGold(100.0);
+        game.setTurn(1);
+    }
+
+    @Test
+    void getCachedItems_NothingCached() {
+        assertTrue(shopCatalogService.getCachedItems(game).isEmpty());
+    }
+
+    @Test
+    void getCachedItems_FreshCatalog() {
+        shopCatalogService.cacheItems(game, List.of(hpot, wingpot));
+        assertEquals(List.of(hpot, wingpot), shopCatalogService.getCachedItems(game).orElseThrow());
+    }
+
+    @Test
+    void getCachedItems_StaleAfterMaxTurns() {
+        shopCatalogService.cacheItems(game, List.of(hpot));
+        game.setTurn(4);
+        assertTrue(shopCatalogService.getCachedItems(game).isEmpty());
+    }
+
+    @Test
+    void getCachedItems_StaleAfterTtl() {
+        shopCatalogService = new ShopCatalogServiceImpl(new SimpleMeterRegistry(), Duration.ZERO, 3);
+        shopCatalogService.cacheItems(game, List.of(hpot));
+        assertTrue(shopCatalogService.getCachedItems(game).isEmpty());
+    }
+
+    @Test
+    void getCachedItems_IsolatedPerGame() {
+        shopCatalogService.cacheItems(game, List.of(hpot));
+
+        Game otherGame = new Game();
+        otherGame.setGameId("game2");
+        assertTrue(shopCatalogService.getCachedItems(otherGame).isEmpty());
+    }
+
+    @Test
+    void isBelowCheapestItem_NothingCached() {
+        game.setGold(0);
+        assertFalse(shopCatalogService.isBelowCheapestItem(game));
+    }
+
+    @Test
+    void isBelowCheapestItem_GoldBelowCheapest() {
+        shopCatalogService.cacheItems(game, List.of(wingpot, hpot));
+        game.setGold(49.0);
+        assertTrue(shopCatalogService.isBelowCheapestItem(game));
+    }
+
+    @Test
+    void isBelowCheapestItem_CanAffordCheapest() {
+        shopCatalogService.cacheItems(game, List.of(wingpot, hpot));
+        game.setGold(50.0);
+        assertFalse(shopCatalogService.isBelowCheapestItem(game));
+    }
+
+    @Test
+    void invalidate_DropsCatalog() {
+        shopCatalogService.cacheItems(game, List.of(hpot));
+        shopCatalogService.invalidate("game1");
+        assertTrue(shopCatalogService.getCachedItems(game).isEmpty());
+    }
+
+    @Test
+    void invalidate_NullGameId() {
+        assertDoesNotThrow(() -> shopCatalogService.invalidate(null));
+    }
+}
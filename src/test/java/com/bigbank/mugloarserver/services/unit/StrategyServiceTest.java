@@ -3,18 +3,24 @@ package com.bigbank.mugloarserver.services.unit;
 import com.bigbank.mugloarserver.models.Game;
 import com.bigbank.mugloarserver.models.Investigation;
 import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.MessageBoard;
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
 import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.models.StrategyContext;
+import com.bigbank.mugloarserver.services.SuccessRateService;
 import com.bigbank.mugloarserver.services.implementations.StrategyServiceImpl;
+import com.bigbank.mugloarserver.strategies.DifficultyMessageScorer;
+import com.bigbank.mugloarserver.strategies.ExpectedValueMessageScorer;
+import com.bigbank.mugloarserver.strategies.ShopOptimizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for StrategyService
@@ -23,21 +29,25 @@ import static org.junit.jupiter.api.Assertions.*;
  * @created 14.12.2024
  */
 public class StrategyServiceTest {
-    @InjectMocks
+    private static final String GAME_ID = "game1";
+
     private StrategyServiceImpl strategyService;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        strategyService = new StrategyServiceImpl(Map.of("difficulty", new DifficultyMessageScorer()), new ShopOptimizer(),
+                "difficulty");
+        strategyService.createContext(GAME_ID);
     }
 
     @Test
     void processInvestigation_ZeroTotals() {
         Investigation inv = new Investigation();
-        strategyService.processInvestigation(inv);
-        assertEquals(1.0, getPrivateField("peopleMultiplier"));
-        assertEquals(1.0, getPrivateField("stateMultiplier"));
-        assertEquals(1.0, getPrivateField("underworldMultiplier"));
+        strategyService.processInvestigation(GAME_ID, inv);
+        StrategyContext context = strategyService.getContext(GAME_ID);
+        assertEquals(1.0, context.getPeopleMultiplier());
+        assertEquals(1.0, context.getStateMultiplier());
+        assertEquals(1.0, context.getUnderworldMultiplier());
     }
 
     @Test
@@ -46,19 +56,11 @@ public class StrategyServiceTest {
         inv.setPeople(20);
         inv.setState(10);
         inv.setUnderworld(20);
-        strategyService.processInvestigation(inv);
-        Object pm = getPrivateField("peopleMultiplier");
-        Object sm = getPrivateField("stateMultiplier");
-        Object um = getPrivateField("underworldMultiplier");
-        assertNotNull(pm);
-        assertNotNull(sm);
-        assertNotNull(um);
-        assertInstanceOf(Double.class, pm);
-        assertInstanceOf(Double.class, sm);
-        assertInstanceOf(Double.class, um);
-        assertTrue((Double) pm > 0);
-        assertTrue((Double) sm > 0);
-        assertTrue((Double) um > 0);
+        strategyService.processInvestigation(GAME_ID, inv);
+        StrategyContext context = strategyService.getContext(GAME_ID);
+        assertEquals(0.4, context.getPeopleMultiplier());
+        assertEquals(0.2, context.getStateMultiplier());
+        assertEquals(0.4, context.getUnderworldMultiplier());
     }
 
     @Test
@@ -76,11 +78,19 @@ public class StrategyServiceTest {
     @Test
     void chooseMessage_AllSolved() {
         Message msg1 = new Message("ad1", "msg", "100", 5, null, "");
-        strategyService.markMessageAsSolved("ad1");
-        Message result = strategyService.chooseMessage(List.of(msg1), new Game());
+        strategyService.markMessageAsSolved(GAME_ID, "ad1");
+        Message result = strategyService.chooseMessage(List.of(msg1), gameWithId(GAME_ID));
         assertNull(result);
     }
 
+    @Test
+    void chooseMessage_SolvedInOtherGame() {
+        Message msg1 = new Message("ad1", "msg", "100", 5, null, "");
+        strategyService.markMessageAsSolved("otherGame", "ad1");
+        Message result = strategyService.chooseMessage(List.of(msg1), gameWithId(GAME_ID));
+        assertEquals(msg1, result);
+    }
+
     @Test
     void chooseMessage_ReturnBestMessage() {
         Message msg1 = new Message("ad1", "msg1", "50", 5, null, "");
@@ -95,6 +105,80 @@ public class StrategyServiceTest {
         assertNotNull(chosen);
     }
 
+    @Test
+    void createMessageBoard_PollsInScoreOrder() {
+        Message low = new Message("ad1", "low", "10", 1, null, "");
+        Message high = new Message("ad2", "high", "100", 9, null, "");
+        Message mid = new Message("ad3", "mid", "50", 5, null, "");
+        Game game = gameWithId(GAME_ID);
+        game.setCunning(5);
+
+        MessageBoard board = strategyService.createMessageBoard(List.of(low, high, mid), game);
+
+        assertEquals(3, board.size());
+        assertEquals(high, board.poll());
+        assertEquals(mid, board.poll());
+        assertEquals(low, board.poll());
+        assertNull(board.poll());
+        assertTrue(board.isEmpty());
+    }
+
+    @Test
+    void createMessageBoard_SkipsMessagesSolvedAfterScoring() {
+        Message first = new Message("ad1", "first", "100", 5, null, "");
+        Message second = new Message("ad2", "second", "50", 5, null, "");
+        Game game = gameWithId(GAME_ID);
+        game.setCunning(5);
+
+        MessageBoard board = strategyService.createMessageBoard(List.of(first, second), game);
+        strategyService.markMessageAsSolved(GAME_ID, "ad1");
+
+        assertEquals(second, board.poll());
+    }
+
+    @Test
+    void createMessageBoard_RescoresWhenDragonLevelChanges() {
+        // The failure penalty is additive, so ad1 outranks ad2 at a low dragon level but not at a high one
+        Message failedBefore = new Message("ad1", "failed before", "100", 10, null, "");
+        Message fresh = new Message("ad2", "fresh", "10", 1, null, "");
+        Message filler = new Message("ad3", "filler", "1", 1, null, "");
+        Game game = gameWithId(GAME_ID);
+        game.setCunning(1);
+        strategyService.recordFailure(GAME_ID, "ad1");
+        strategyService.recordFailure(GAME_ID, "ad1");
+
+        MessageBoard board = strategyService.createMessageBoard(List.of(failedBefore, fresh, filler), game);
+        assertEquals(failedBefore, board.poll());
+
+        board = strategyService.createMessageBoard(List.of(failedBefore, fresh, filler), game);
+        game.setCunning(1000);
+        assertEquals(fresh, board.poll());
+    }
+
+    @Test
+    void createMessageBoard_ExpectedValueRanksByRewardPerLifeRisked() {
+        SuccessRateService successRateService = mock(SuccessRateService.class);
+        when(successRateService.getSuccessRate(any(ProbabilityLabel.class)))
+                .thenAnswer(inv -> ((ProbabilityLabel) inv.getArgument(0)).getPriorSuccessRate());
+        strategyService = new StrategyServiceImpl(Map.of("expectedValue",
+                new ExpectedValueMessageScorer(successRateService)), new ShopOptimizer(), "expectedValue");
+
+        Message suicide = new Message("ad1", "suicide", "500", 3, null, "Suicide mission");
+        Message cake = new Message("ad2", "cake", "20", 3, null, "Piece of cake");
+        Message gamble = new Message("ad3", "gamble", "100", 3, null, "Gamble");
+
+        MessageBoard board = strategyService.createMessageBoard(List.of(suicide, cake, gamble), gameWithId(GAME_ID));
+
+        assertEquals(cake, board.poll());
+        assertEquals(gamble, board.poll());
+        assertEquals(suicide, board.poll());
+    }
+
+    @Test
+    void constructor_UnknownMessageScorer() {
+        assertThrows(IllegalStateException.class, () -> new StrategyServiceImpl(Map.of(), new ShopOptimizer(), "unknown"));
+    }
+
     @Test
     void decideItemsToBuy_NoItems() {
         List<ShopItem> result = strategyService.decideItemsToBuy(new Game(), null);
@@ -136,43 +220,139 @@ public class StrategyServiceTest {
         assertTrue(result.contains(other2));
     }
 
+    @Test
+    void decideItemsToBuy_MaximizesStatGainWithinGold() {
+        Game game = new Game();
+        game.setGold(300);
+        game.setLives(3);
+        ShopItem ch = new ShopItem("ch", "Claw Honing", 300.0);
+        ShopItem cs = new ShopItem("cs", "Claw Sharpening", 100.0);
+        ShopItem gas = new ShopItem("gas", "Gasoline", 100.0);
+        ShopItem wax = new ShopItem("wax", "Copper Plating", 100.0);
+
+        List<ShopItem> result = strategyService.decideItemsToBuy(game, List.of(ch, cs, gas, wax));
+
+        assertEquals(List.of(cs, gas, wax), result);
+    }
+
+    @Test
+    void decideItemsToBuy_HealingFirstOnLastLife() {
+        Game game = new Game();
+        game.setGold(120);
+        game.setLives(1);
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50.0);
+        ShopItem cs = new ShopItem("cs", "Claw Sharpening", 100.0);
+
+        List<ShopItem> result = strategyService.decideItemsToBuy(game, List.of(cs, hpot));
+
+        assertEquals(List.of(hpot), result);
+    }
+
+    @Test
+    void decideItemsToBuy_SkillsOutweighHealingAtHigherLevels() {
+        Game game = new Game();
+        game.setGold(100);
+        game.setLives(2);
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50.0);
+        ShopItem ch = new ShopItem("ch", "Claw Honing", 100.0);
+
+        assertEquals(List.of(hpot), strategyService.decideItemsToBuy(game, List.of(hpot, ch)));
+
+        game.setLevel(5);
+        assertEquals(List.of(ch), strategyService.decideItemsToBuy(game, List.of(hpot, ch)));
+    }
+
+    @Test
+    void decideItemsToBuy_CommonCostUnitDoesNotOverspend() {
+        Game game = new Game();
+        game.setGold(600);
+        game.setLives(3);
+        ShopItem cs = new ShopItem("cs", "Claw Sharpening", 125.0);
+        ShopItem ch = new ShopItem("ch", "Claw Honing", 250.0);
+        ShopItem rf = new ShopItem("rf", "Rocket Fuel", 375.0);
+
+        List<ShopItem> result = strategyService.decideItemsToBuy(game, List.of(cs, ch, rf));
+
+        assertTrue(result.stream().mapToDouble(ShopItem::getCost).sum() <= 600);
+        assertTrue(result.contains(cs));
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    void decideItemsToBuy_CommonCostUnitUsesExactGold() {
+        Game game = new Game();
+        game.setGold(625);
+        game.setLives(3);
+        ShopItem cs = new ShopItem("cs", "Claw Sharpening", 125.0);
+        ShopItem ch = new ShopItem("ch", "Claw Honing", 250.0);
+        ShopItem rf = new ShopItem("rf", "Rocket Fuel", 375.0);
+
+        List<ShopItem> result = strategyService.decideItemsToBuy(game, List.of(cs, ch, rf));
+
+        assertEquals(List.of(ch, rf), result);
+    }
+
+    @Test
+    void decideItemsToBuy_NotEnoughGold() {
+        Game game = new Game();
+        game.setGold(40);
+        ShopItem hpot = new ShopItem("hpot", "Healing Potion", 50.0);
+
+        assertTrue(strategyService.decideItemsToBuy(game, List.of(hpot)).isEmpty());
+    }
+
     @Test
     void markMessageAsSolved_NullAdId() {
-        strategyService.markMessageAsSolved(null);
+        strategyService.markMessageAsSolved(GAME_ID, null);
+        assertTrue(strategyService.getContext(GAME_ID).getSolvedMessageIds().isEmpty());
     }
 
     @Test
     void markMessageAsSolved_ValidId() {
-        strategyService.markMessageAsSolved("ad1");
+        strategyService.markMessageAsSolved(GAME_ID, "ad1");
+        assertTrue(strategyService.getContext(GAME_ID).getSolvedMessageIds().contains("ad1"));
     }
 
     @Test
     void recordFailure_Increment() {
-        strategyService.recordFailure("adX");
-        strategyService.recordFailure("adX");
-        assertEquals(2, getPrivateMapValue());
+        strategyService.recordFailure(GAME_ID, "adX");
+        strategyService.recordFailure(GAME_ID, "adX");
+        assertEquals(2, strategyService.getContext(GAME_ID).getFailureCounts().get("adX"));
+    }
+
+    @Test
+    void createContext_ReplacesPreviousState() {
+        strategyService.recordFailure(GAME_ID, "adX");
+        StrategyContext context = strategyService.createContext(GAME_ID);
+        assertTrue(context.getFailureCounts().isEmpty());
+        assertSame(context, strategyService.getContext(GAME_ID));
+    }
+
+    @Test
+    void releaseContext_DropsState() {
+        strategyService.markMessageAsSolved(GAME_ID, "ad1");
+        strategyService.releaseContext(GAME_ID);
+        assertTrue(strategyService.getContext(GAME_ID).getSolvedMessageIds().isEmpty());
+    }
+
+    @Test
+    void getContext_ReleasedGameNotRecreated() {
+        strategyService.releaseContext(GAME_ID);
+        strategyService.markMessageAsSolved(GAME_ID, "ad1");
+
+        assertNotSame(strategyService.getContext(GAME_ID), strategyService.getContext(GAME_ID));
+        assertTrue(strategyService.getContext(GAME_ID).getSolvedMessageIds().isEmpty());
+    }
+
+    @Test
+    void releaseContext_NullGameId() {
+        assertDoesNotThrow(() -> strategyService.releaseContext(null));
     }
 
     // PRIVATE METHODS //
-    private Object getPrivateField(String fieldName) {
-        try {
-            var field = StrategyServiceImpl.class.getDeclaredField(fieldName);
-            field.setAccessible(true);
-            return field.get(strategyService);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    private int getPrivateMapValue() {
-        try {
-            var field = StrategyServiceImpl.class.getDeclaredField("failureCounts");
-            field.setAccessible(true);
-            Map<String, Integer> map = (Map<String, Integer>) field.get(strategyService);
-            return map.getOrDefault("adX", 0);
-        } catch (Exception e) {
-            return -1;
-        }
+    private Game gameWithId(String gameId) {
+        Game game = new Game();
+        game.setGameId(gameId);
+        return game;
     }
 }
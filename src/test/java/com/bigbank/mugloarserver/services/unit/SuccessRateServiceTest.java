@@ -0,0 +1,94 @@
+package com.bigbank.mugloarserver.services.unit;
+
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+import com.bigbank.mugloarserver.models.ProbabilityOutcome;
+import com.bigbank.mugloarserver.repositories.GameResultRepository;
+import com.bigbank.mugloarserver.services.implementations.SuccessRateServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SuccessRateService
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class SuccessRateServiceTest {
+    private GameResultRepository gameResultRepository;
+    private SuccessRateServiceImpl successRateService;
+
+    @BeforeEach
+    void setUp() {
+        gameResultRepository = mock(GameResultRepository.class);
+        successRateService = new SuccessRateServiceImpl(gameResultRepository, 10);
+    }
+
+    @Test
+    void getSuccessRate_PriorBeforeRefresh() {
+        assertEquals(0.5, successRateService.getSuccessRate(ProbabilityLabel.GAMBLE));
+        assertEquals(0, successRateService.getVersion());
+    }
+
+    @Test
+    void refresh_BlendsOutcomesWithPrior() {
+        when(gameResultRepository.findProbabilityOutcomes()).thenReturn(List.of(outcome("Gamble", 90, 90)));
+
+        successRateService.refresh();
+
+        // (90 successes + 0.5 * 10 pseudo-attempts) / (90 + 10)
+        assertEquals(0.95, successRateService.getSuccessRate(ProbabilityLabel.GAMBLE), 1e-9);
+        assertEquals(0.95, successRateService.getSuccessRate(ProbabilityLabel.PIECE_OF_CAKE), 1e-9);
+        assertEquals(1, successRateService.getVersion());
+    }
+
+    @Test
+    void refresh_UnknownLabelsPooled() {
+        when(gameResultRepository.findProbabilityOutcomes())
+                .thenReturn(List.of(outcome(null, 5, 0), outcome("Brand new label", 5, 0)));
+
+        successRateService.refresh();
+
+        assertEquals(0.25, successRateService.getSuccessRate(ProbabilityLabel.UNKNOWN), 1e-9);
+    }
+
+    @Test
+    void refresh_RepositoryFailureKeepsRates() {
+        when(gameResultRepository.findProbabilityOutcomes()).thenThrow(new RuntimeException("DB error"));
+
+        successRateService.refresh();
+
+        assertEquals(0.5, successRateService.getSuccessRate(ProbabilityLabel.GAMBLE));
+        assertEquals(0, successRateService.getVersion());
+    }
+
+    @Test
+    void fromLabel_CaseInsensitive() {
+        assertEquals(ProbabilityLabel.SUICIDE_MISSION, ProbabilityLabel.fromLabel(" suicide MISSION "));
+        assertEquals(ProbabilityLabel.UNKNOWN, ProbabilityLabel.fromLabel(null));
+    }
+
+    // PRIVATE METHODS //
+    private ProbabilityOutcome outcome(String probability, long attempts, long successes) {
+        return new ProbabilityOutcome() {
+            @Override
+            public String getProbability() {
+                return probability;
+            }
+
+            @Override
+            public long getAttempts() {
+                return attempts;
+            }
+
+            @Override
+            public long getSuccesses() {
+                return successes;
+            }
+        };
+    }
+}
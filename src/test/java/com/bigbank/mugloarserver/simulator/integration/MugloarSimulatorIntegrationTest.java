@@ -0,0 +1,74 @@
+package com.bigbank.mugloarserver.simulator.integration;
+
+import com.bigbank.mugloarserver.facades.GameFacade;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.services.GameResultService;
+import com.bigbank.mugloarserver.simulator.MugloarSimulator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests that play full GameFacade loops against the embedded Mugloar simulator
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+@SpringBootTest
+public class MugloarSimulatorIntegrationTest {
+    private static final int GAMES = 25;
+
+    private static final MugloarSimulator SIMULATOR = new MugloarSimulator(42L, Duration.ofMillis(1), 0.5, 10, 60);
+
+    @Autowired
+    private GameFacade gameFacade;
+
+    @Autowired
+    private GameResultService gameResultService;
+
+    @DynamicPropertySource
+    static void simulatorProperties(DynamicPropertyRegistry registry) {
+        SIMULATOR.start("localhost", 0);
+        registry.add("mugloar.api.base-url", SIMULATOR::getBaseUrl);
+        registry.add("mugloar.http.protocols", () -> "HTTP11");
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        SIMULATOR.stop();
+    }
+
+    @Test
+    void playConcurrentGames_Integration() throws Exception {
+        List<Future<String>> playedGames = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < GAMES; i++) {
+                playedGames.add(executor.submit(() -> {
+                    Game game = gameFacade.initializeGame();
+                    gameFacade.playGame(game);
+                    return game.getGameId();
+                }));
+            }
+        }
+
+        for (Future<String> playedGame : playedGames) {
+            assertNotNull(gameResultService.findByGameId(playedGame.get()));
+        }
+
+        assertEquals(GAMES, SIMULATOR.getStartedGameCount());
+        assertEquals(0, SIMULATOR.getActiveGameCount());
+    }
+}
@@ -0,0 +1,143 @@
+package com.bigbank.mugloarserver.simulator.unit;
+
+import com.bigbank.mugloarserver.exceptions.GameOverException;
+import com.bigbank.mugloarserver.exceptions.MugloarException;
+import com.bigbank.mugloarserver.models.Game;
+import com.bigbank.mugloarserver.models.Message;
+import com.bigbank.mugloarserver.models.MessageSolveResponse;
+import com.bigbank.mugloarserver.models.ProbabilityLabel;
+import com.bigbank.mugloarserver.models.ShopItem;
+import com.bigbank.mugloarserver.services.implementations.MugloarRateLimiterImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarResilienceServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.MugloarServiceImpl;
+import com.bigbank.mugloarserver.services.implementations.ReactiveMugloarServiceImpl;
+import com.bigbank.mugloarserver.simulator.MugloarSimulator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MugloarSimulator
+ *
+ * @author vinodjohn
+ * @created 17.10.2026
+ */
+public class MugloarSimulatorTest {
+    private final List<MugloarSimulator> simulators = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        simulators.forEach(MugloarSimulator::stop);
+    }
+
+    @Test
+    void sameSeedPlaysSameGame() {
+        assertEquals(playScriptedGame(client(7L, Duration.ZERO, 100)), playScriptedGame(client(7L, Duration.ZERO,
+                100)));
+    }
+
+    @Test
+    void differentSeedPlaysDifferentGame() {
+        assertNotEquals(playScriptedGame(client(7L, Duration.ZERO, 100)), playScriptedGame(client(8L, Duration.ZERO,
+                100)));
+    }
+
+    @Test
+    void messagesAreDecodable() {
+        MugloarServiceImpl mugloarService = client(1L, Duration.ZERO, 100);
+        Game game = mugloarService.startGame();
+
+        List<Message> messages = mugloarService.getMessages(game.getGameId());
+
+        assertEquals(10, messages.size());
+        assertTrue(messages.stream().allMatch(message -> message.getDecodedAdId().startsWith(game.getGameId())));
+        assertTrue(messages.stream().anyMatch(message -> message.getEncrypted() != null));
+    }
+
+    @Test
+    void gameOverAfterMaxTurns() {
+        MugloarServiceImpl mugloarService = client(1L, Duration.ZERO, 2);
+        String gameId = mugloarService.startGame().getGameId();
+
+        mugloarService.investigate(gameId);
+        mugloarService.investigate(gameId);
+
+        assertThrows(GameOverException.class, () -> mugloarService.investigate(gameId));
+        assertEquals(0, simulators.getFirst().getActiveGameCount());
+    }
+
+    @Test
+    void unknownGameIsGameOver() {
+        assertThrows(GameOverException.class, () -> client(1L, Duration.ZERO, 100).getMessages("nope"));
+    }
+
+    @Test
+    void solvingUnknownAdFails() {
+        MugloarServiceImpl mugloarService = client(1L, Duration.ZERO, 100);
+        String gameId = mugloarService.startGame().getGameId();
+
+        assertThrows(MugloarException.class, () -> mugloarService.solveMessage(gameId, "nope"));
+    }
+
+    @Test
+    void responsesAreDelayed() {
+        MugloarServiceImpl mugloarService = client(1L, Duration.ofMillis(50), 100);
+
+        long start = System.nanoTime();
+        mugloarService.startGame();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 50);
+    }
+
+    // PRIVATE METHODS //
+    private MugloarServiceImpl client(long seed, Duration latency, int maxTurns) {
+        // Zero sigma makes every response take exactly the median latency
+        MugloarSimulator simulator = new MugloarSimulator(seed, latency, 0.0, 10, maxTurns);
+        simulator.start("localhost", 0);
+        simulators.add(simulator);
+
+        WebClient webClient = WebClient.builder().baseUrl(simulator.getBaseUrl()).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new MugloarServiceImpl(new ReactiveMugloarServiceImpl(webClient, JsonMapper.builder().build(),
+                new MugloarResilienceServiceImpl(meterRegistry, new String[]{"messages", "shop"}, 3,
+                        Duration.ofMillis(1), Duration.ofMillis(10), 0.5, 10, Duration.ofMillis(100)),
+                new MugloarRateLimiterImpl(meterRegistry, 0, 1, new String[0]), meterRegistry));
+    }
+
+    private List<Object> playScriptedGame(MugloarServiceImpl mugloarService) {
+        List<Object> outcomes = new ArrayList<>();
+        Game game = mugloarService.startGame();
+        outcomes.add(mugloarService.investigate(game.getGameId()));
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                List<Message> messages = mugloarService.getMessages(game.getGameId());
+                Message safest = messages.stream()
+                        .max(Comparator.comparingDouble(message -> ProbabilityLabel.fromLabel(
+                                message.getProbability()).getPriorSuccessRate()))
+                        .orElseThrow();
+                MessageSolveResponse solveResponse = mugloarService.solveMessage(game.getGameId(),
+                        safest.getDecodedAdId());
+                outcomes.add(messages);
+                outcomes.add(solveResponse);
+            }
+
+            List<ShopItem> shopItems = mugloarService.getShopItems(game.getGameId());
+            outcomes.add(shopItems);
+            outcomes.add(mugloarService.buyItem(game.getGameId(), "hpot"));
+        } catch (GameOverException goe) {
+            outcomes.add("Game Over");
+        }
+
+        return outcomes;
+    }
+}